@@ -0,0 +1,119 @@
+package com.diamonddevgroup.utils.bench;
+
+import com.codename1.ui.Display;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Utilities shared by the benchmarks. The benchmarks run on the JavaSE port
+ * and never show a window so they can run on a headless machine. Results are
+ * printed and, when the {@code bench.results} system property names a file,
+ * appended to it in CSV format.
+ *
+ * @author Diamond
+ */
+final class BenchSupport {
+
+    private static final String HEADER = "benchmark,params,score,unit";
+
+    private static boolean initialized;
+
+    private BenchSupport() {
+    }
+
+    /**
+     * Initializes Codename One on the JavaSE port inside a Swing panel that is
+     * never displayed
+     */
+    static synchronized void init() {
+        if (!initialized) {
+            Display.init(new javax.swing.JPanel());
+            initialized = true;
+        }
+    }
+
+    /**
+     * Runs the task on the EDT and waits for it to complete
+     *
+     * @param task the task to run
+     */
+    static void onEdt(Runnable task) {
+        Display.getInstance().callSeriallyAndWait(task);
+    }
+
+    /**
+     * The number of bytes allocated so far by the current thread, the
+     * difference between two calls is the allocation of the code in between
+     *
+     * @return the allocated bytes or -1 if the JVM can't measure them
+     */
+    static long allocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sun = (com.sun.management.ThreadMXBean) bean;
+            if (sun.isThreadAllocatedMemorySupported() && sun.isThreadAllocatedMemoryEnabled()) {
+                return sun.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reports the bytes allocated per operation since the given
+     * {@link #allocatedBytes()}, nothing is reported if the JVM can't measure
+     * them
+     *
+     * @param benchmark the name of the benchmark
+     * @param params the parameters of the run
+     * @param start the allocated bytes before the operations
+     * @param operations the number of operations
+     */
+    static void reportAllocation(String benchmark, String params, long start, int operations) {
+        long end = allocatedBytes();
+        if (start >= 0 && end >= 0) {
+            report(benchmark, params, (double) (end - start) / operations, "bytes/op");
+        }
+    }
+
+    /**
+     * Prints a single result line in CSV format:
+     * {@code benchmark,params,score,unit}
+     *
+     * @param benchmark the name of the benchmark
+     * @param params the parameters of the run
+     * @param score the measured value
+     * @param unit the unit of the measured value
+     */
+    static void report(String benchmark, String params, double score, String unit) {
+        String line = benchmark + "," + params + "," + score + "," + unit;
+        System.out.println(line);
+        String results = System.getProperty("bench.results");
+        if (results != null && results.length() > 0) {
+            append(new File(results), line);
+        }
+    }
+
+    private static void append(File file, String line) {
+        boolean header = !file.exists();
+        File dir = file.getAbsoluteFile().getParentFile();
+        if (dir != null) {
+            dir.mkdirs();
+        }
+        try {
+            FileWriter out = new FileWriter(file, true);
+            try {
+                if (header) {
+                    out.write(HEADER + "\n");
+                }
+                out.write(line + "\n");
+            } finally {
+                out.close();
+            }
+        } catch (IOException err) {
+            System.err.println("Can't write the results to " + file + ": " + err);
+        }
+    }
+}
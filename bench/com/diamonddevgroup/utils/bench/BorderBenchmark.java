@@ -0,0 +1,76 @@
+package com.diamonddevgroup.utils.bench;
+
+import com.codename1.ui.Graphics;
+import com.codename1.ui.Image;
+import com.codename1.ui.Label;
+import com.diamonddevgroup.utils.RoundedBorder;
+
+/**
+ * Measures the first paint and the cached paint of a {@link RoundedBorder} for
+ * every rounded position, with and without a shadow. The time and the bytes
+ * allocated are reported per paint.
+ *
+ * @author Diamond
+ */
+public class BorderBenchmark {
+
+    // -1 rounds every corner, 0 is a circle and 1 to 8 are the sides and corners
+    private static final int[] POSITIONS = {-1, 0, 1, 2, 3, 4, 5, 6, 7, 8};
+
+    private static final int WARMUP = 20;
+
+    private static final int ITERATIONS = 200;
+
+    public static void main(String[] args) {
+        BenchSupport.init();
+        BenchSupport.onEdt(new Runnable() {
+            public void run() {
+                for (int position : POSITIONS) {
+                    measure(position, false);
+                    measure(position, true);
+                }
+            }
+        });
+        System.exit(0);
+    }
+
+    private static void measure(int position, boolean shadow) {
+        // a 60mm x 25mm card on a 320 dpi screen
+        float pixelsPerMM = 320 / 25.4f;
+        int w = Math.round(60 * pixelsPerMM);
+        int h = Math.round(25 * pixelsPerMM);
+
+        Label card = new Label();
+        card.setWidth(w);
+        card.setHeight(h);
+        RoundedBorder border = RoundedBorder.create().color(0xffffff).rectangle(false).
+                roundedPosition(position).radius(10);
+        if (shadow) {
+            border.shadowOpacity(20).shadowSpread(Math.round(0.2f * pixelsPerMM), false).
+                    shadowX(0.4f).shadowY(0.3f);
+        }
+        Graphics g = Image.createImage(w, h).getGraphics();
+        String params = "position=" + position + ";shadow=" + shadow + ";size=" + w + "x" + h;
+
+        for (int iter = 0; iter < WARMUP; iter++) {
+            RoundedBorder.resetCaches();
+            border.paintBorderBackground(g, card);
+        }
+        long bytes = BenchSupport.allocatedBytes();
+        long time = System.nanoTime();
+        for (int iter = 0; iter < ITERATIONS; iter++) {
+            RoundedBorder.resetCaches();
+            border.paintBorderBackground(g, card);
+        }
+        BenchSupport.report("border.firstPaint", params, (System.nanoTime() - time) / 1000000.0 / ITERATIONS, "ms/op");
+        BenchSupport.reportAllocation("border.firstPaint.alloc", params, bytes, ITERATIONS);
+
+        bytes = BenchSupport.allocatedBytes();
+        time = System.nanoTime();
+        for (int iter = 0; iter < ITERATIONS; iter++) {
+            border.paintBorderBackground(g, card);
+        }
+        BenchSupport.report("border.cachedPaint", params, (System.nanoTime() - time) / 1000000.0 / ITERATIONS, "ms/op");
+        BenchSupport.reportAllocation("border.cachedPaint.alloc", params, bytes, ITERATIONS);
+    }
+}
@@ -0,0 +1,104 @@
+package com.diamonddevgroup.utils.bench;
+
+import com.diamonddevgroup.utils.Helper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Reports the class file size and method counts of {@link Helper} and measures
+ * the time to load, verify and initialize it in a fresh class loader. The
+ * numbers track how much the generated styling methods cost the application.
+ *
+ * @author Diamond
+ */
+public class FootprintBenchmark {
+
+    private static final String PACKAGE = "com.diamonddevgroup.utils.";
+
+    private static final int WARMUP = 20;
+
+    private static final int ITERATIONS = 200;
+
+    public static void main(String[] args) throws Exception {
+        String name = Helper.class.getName();
+        byte[] bytes = read(name);
+        BenchSupport.report("footprint.classSize", "class=Helper", bytes.length, "bytes");
+        // the public API and the private primitives behind it grow for
+        // different reasons so they are reported apart
+        Method[] methods = Helper.class.getDeclaredMethods();
+        int published = 0;
+        for (Method m : methods) {
+            if (Modifier.isPublic(m.getModifiers())) {
+                published++;
+            }
+        }
+        BenchSupport.report("footprint.methods", "class=Helper", methods.length, "methods");
+        BenchSupport.report("footprint.publicMethods", "class=Helper", published, "methods");
+        BenchSupport.report("footprint.otherMethods", "class=Helper", methods.length - published, "methods");
+
+        for (int iter = 0; iter < WARMUP; iter++) {
+            load(name);
+        }
+        long time = System.nanoTime();
+        for (int iter = 0; iter < ITERATIONS; iter++) {
+            load(name);
+        }
+        BenchSupport.report("footprint.classLoad", "class=Helper", (System.nanoTime() - time) / 1000000.0 / ITERATIONS, "ms/op");
+        System.exit(0);
+    }
+
+    private static void load(String name) throws Exception {
+        Class.forName(name, true, new FreshLoader(FootprintBenchmark.class.getClassLoader()));
+    }
+
+    private static byte[] read(String name) throws IOException {
+        InputStream in = FootprintBenchmark.class.getResourceAsStream("/" + name.replace('.', '/') + ".class");
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int count;
+            while ((count = in.read(buffer)) > 0) {
+                out.write(buffer, 0, count);
+            }
+            return out.toByteArray();
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Defines the library classes again instead of delegating to the parent
+     * so every load pays for parsing and verification
+     */
+    private static final class FreshLoader extends ClassLoader {
+
+        FreshLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(PACKAGE) || name.startsWith(PACKAGE + "bench.")) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> c = findLoadedClass(name);
+                if (c == null) {
+                    try {
+                        byte[] b = read(name);
+                        c = defineClass(name, b, 0, b.length);
+                    } catch (IOException err) {
+                        throw new ClassNotFoundException(name, err);
+                    }
+                }
+                if (resolve) {
+                    resolveClass(c);
+                }
+                return c;
+            }
+        }
+    }
+}
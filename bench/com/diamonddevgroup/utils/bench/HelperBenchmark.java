@@ -0,0 +1,78 @@
+package com.diamonddevgroup.utils.bench;
+
+import com.codename1.ui.Label;
+import com.diamonddevgroup.utils.Helper;
+
+/**
+ * Measures applying a {@link Helper} chain to 1k, 10k and 100k components,
+ * first to fresh components and then again to the same components which
+ * skips the writes of values the styles already hold. The time and the bytes
+ * allocated are reported per component.
+ *
+ * @author Diamond
+ */
+public class HelperBenchmark {
+
+    private static final int[] COMPONENTS = {1000, 10000, 100000};
+
+    private static final int WARMUP = 3;
+
+    private static final int ITERATIONS = 5;
+
+    public static void main(String[] args) {
+        BenchSupport.init();
+        BenchSupport.onEdt(new Runnable() {
+            public void run() {
+                for (int iter = 0; iter < WARMUP; iter++) {
+                    chain(labels(COMPONENTS[0]));
+                }
+                for (int count : COMPONENTS) {
+                    measure(count);
+                }
+            }
+        });
+        System.exit(0);
+    }
+
+    private static void measure(int count) {
+        String params = "components=" + count;
+        long total = 0;
+        long allocated = 0;
+        Label[] labels = null;
+        for (int iter = 0; iter < ITERATIONS; iter++) {
+            labels = labels(count);
+            long bytes = BenchSupport.allocatedBytes();
+            long time = System.nanoTime();
+            chain(labels);
+            total += System.nanoTime() - time;
+            allocated += BenchSupport.allocatedBytes() - bytes;
+        }
+        int operations = count * ITERATIONS;
+        BenchSupport.report("helper.chain", params, total / 1000.0 / operations, "us/op");
+        if (BenchSupport.allocatedBytes() >= 0) {
+            BenchSupport.report("helper.chain.alloc", params, (double) allocated / operations, "bytes/op");
+        }
+
+        long bytes = BenchSupport.allocatedBytes();
+        long time = System.nanoTime();
+        for (int iter = 0; iter < ITERATIONS; iter++) {
+            chain(labels);
+        }
+        BenchSupport.report("helper.rechain", params, (System.nanoTime() - time) / 1000.0 / operations, "us/op");
+        BenchSupport.reportAllocation("helper.rechain.alloc", params, bytes, operations);
+    }
+
+    private static Label[] labels(int count) {
+        Label[] labels = new Label[count];
+        for (int iter = 0; iter < labels.length; iter++) {
+            labels[iter] = new Label("Item " + iter);
+        }
+        return labels;
+    }
+
+    private static void chain(Label[] labels) {
+        for (Label l : labels) {
+            new Helper(l).pa1().ma0().textGreen().bgWhite().textBold().borderAll(2);
+        }
+    }
+}
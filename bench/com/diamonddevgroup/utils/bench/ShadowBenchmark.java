@@ -0,0 +1,69 @@
+package com.diamonddevgroup.utils.bench;
+
+import com.codename1.ui.Graphics;
+import com.codename1.ui.Image;
+import com.codename1.ui.Label;
+import com.diamonddevgroup.utils.RoundedBorder;
+
+/**
+ * Measures the first paint and the cached paint of the cards produced by
+ * {@code Helper.borderAllWithShadow()} at several screen densities. The
+ * density is emulated by scaling the card size and the shadow spread the same
+ * way the device would when converting millimeters to pixels.
+ *
+ * @author Diamond
+ */
+public class ShadowBenchmark {
+
+    private static final float[] DENSITIES = {1f, 1.5f, 2f, 3f, 4f};
+
+    private static final int WARMUP = 20;
+
+    private static final int ITERATIONS = 200;
+
+    public static void main(String[] args) {
+        BenchSupport.init();
+        BenchSupport.onEdt(new Runnable() {
+            public void run() {
+                for (float density : DENSITIES) {
+                    measure(density);
+                }
+            }
+        });
+        System.exit(0);
+    }
+
+    private static void measure(float density) {
+        // a 60mm x 25mm card on a 160 dpi screen scaled to the given density
+        float pixelsPerMM = 160 / 25.4f * density;
+        int w = Math.round(60 * pixelsPerMM);
+        int h = Math.round(25 * pixelsPerMM);
+        int spread = Math.max(1, Math.round(0.2f * pixelsPerMM));
+
+        Label card = new Label();
+        card.setWidth(w);
+        card.setHeight(h);
+        RoundedBorder border = RoundedBorder.create().color(0xffffff).rectangle(false).
+                roundedPosition(-1).radius(10).shadowOpacity(20).shadowSpread(spread, false).
+                shadowX(0.4f).shadowY(0.3f);
+        Graphics g = Image.createImage(w, h).getGraphics();
+        String params = "density=" + density + ";size=" + w + "x" + h;
+
+        for (int iter = 0; iter < WARMUP; iter++) {
+            RoundedBorder.resetCaches();
+            border.paintBorderBackground(g, card);
+        }
+        long time = System.nanoTime();
+        for (int iter = 0; iter < ITERATIONS; iter++) {
+            RoundedBorder.resetCaches();
+            border.paintBorderBackground(g, card);
+        }
+        BenchSupport.report("shadow.firstPaint", params, (System.nanoTime() - time) / 1000000.0 / ITERATIONS, "ms/op");
+
+        time = System.nanoTime();
+        for (int iter = 0; iter < ITERATIONS; iter++) {
+            border.paintBorderBackground(g, card);
+        }
+        BenchSupport.report("shadow.cachedPaint", params, (System.nanoTime() - time) / 1000000.0 / ITERATIONS, "ms/op");
+    }
+}
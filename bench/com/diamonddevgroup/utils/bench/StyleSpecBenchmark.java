@@ -0,0 +1,81 @@
+package com.diamonddevgroup.utils.bench;
+
+import com.codename1.ui.Label;
+import com.diamonddevgroup.utils.Helper;
+import com.diamonddevgroup.utils.StyleSpec;
+
+/**
+ * Compares styling many components with a live {@link Helper} chain against
+ * applying the same chain compiled once into a {@link StyleSpec}, and measures
+ * binding the same spec again to components that already carry it as
+ * recycled list cells do.
+ *
+ * @author Diamond
+ */
+public class StyleSpecBenchmark {
+
+    private static final int COMPONENTS = 10000;
+
+    private static final int WARMUP = 3;
+
+    private static final int ITERATIONS = 10;
+
+    public static void main(String[] args) {
+        BenchSupport.init();
+        BenchSupport.onEdt(new Runnable() {
+            public void run() {
+                measure();
+            }
+        });
+        System.exit(0);
+    }
+
+    private static void measure() {
+        Label[] labels = new Label[COMPONENTS];
+        for (int iter = 0; iter < labels.length; iter++) {
+            labels[iter] = new Label("Item " + iter);
+        }
+        StyleSpec spec = Helper.record().pa1().ma0().textGreen().bgWhite().textBold().borderAll(2).compile();
+        String params = "components=" + COMPONENTS;
+
+        for (int iter = 0; iter < WARMUP; iter++) {
+            chain(labels);
+            apply(spec, labels);
+        }
+
+        long time = System.nanoTime();
+        for (int iter = 0; iter < ITERATIONS; iter++) {
+            chain(labels);
+        }
+        BenchSupport.report("style.chain", params, (System.nanoTime() - time) / 1000000.0 / ITERATIONS, "ms/op");
+
+        long total = 0;
+        for (int iter = 0; iter < ITERATIONS; iter++) {
+            for (Label l : labels) {
+                StyleSpec.invalidate(l);
+            }
+            time = System.nanoTime();
+            apply(spec, labels);
+            total += System.nanoTime() - time;
+        }
+        BenchSupport.report("style.spec", params, total / 1000000.0 / ITERATIONS, "ms/op");
+
+        time = System.nanoTime();
+        for (int iter = 0; iter < ITERATIONS; iter++) {
+            apply(spec, labels);
+        }
+        BenchSupport.report("style.specRebind", params, (System.nanoTime() - time) / 1000000.0 / ITERATIONS, "ms/op");
+    }
+
+    private static void chain(Label[] labels) {
+        for (Label l : labels) {
+            new Helper(l).pa1().ma0().textGreen().bgWhite().textBold().borderAll(2);
+        }
+    }
+
+    private static void apply(StyleSpec spec, Label[] labels) {
+        for (Label l : labels) {
+            spec.applyTo(l);
+        }
+    }
+}
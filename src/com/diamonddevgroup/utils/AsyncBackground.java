@@ -0,0 +1,262 @@
+package com.diamonddevgroup.utils;
+
+import com.codename1.io.FileSystemStorage;
+import com.codename1.io.Log;
+import com.codename1.io.Storage;
+import com.codename1.io.Util;
+import com.codename1.ui.CN;
+import com.codename1.ui.Component;
+import com.codename1.ui.Form;
+import com.codename1.ui.Graphics;
+import com.codename1.ui.Image;
+import com.codename1.ui.Painter;
+import com.codename1.ui.geom.Rectangle;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+
+/**
+ * Paints a background image that is read and decoded off the EDT. The image is
+ * read when the background is first painted and the background is filled with
+ * a placeholder color until the copy scaled to the size of the component is
+ * ready.
+ * <br><br>
+ * The bytes are read and decoded in a background task, every port decodes
+ * images off the EDT. The decoded image is scaled to the sizes waiting for it
+ * on the EDT since scaling may draw into a mutable image, then it is dropped.
+ * Storage entries and files are read again when a copy evicted from the cache
+ * of {@link ScaledBackground} or another size is needed. A stream can only be
+ * read once so its bytes are kept for as long as the painter is used.
+ * <br><br>
+ * A source that can't be read or decoded is retried after
+ * {@link #RETRY_DELAY} milliseconds the next time it is painted.
+ * <br><br>
+ * Painters loading the same storage entry or file are equal, reapplying a
+ * chain doesn't read the image again. {@link Helper} and {@link StyleSpec}
+ * give each component its own painter through {@link #bind(Component)} so
+ * only that component is repainted once its copy is ready.
+ *
+ * @author Diamond
+ */
+final class AsyncBackground implements Painter {
+
+    static final int STORAGE = 0;
+    static final int FILE = 1;
+    static final int STREAM = 2;
+
+    /**
+     * The time before a source that failed is read again in milliseconds
+     */
+    static final int RETRY_DELAY = 5000;
+
+    // the prefix of the cache key of each kind of source
+    private static final String[] PREFIX = {"$storage:", "$file:"};
+
+    private final Loader loader;
+
+    // the component repainted when a copy is ready, null repaints the form
+    private final Component owner;
+
+    /**
+     * Creates the painter, the image is read when it is first painted
+     *
+     * @param kind one of {@link #STORAGE}, {@link #FILE} or {@link #STREAM}
+     * @param source the name of the entry or the file, or an InputStream
+     * @param placeholder the color painted until the image is ready
+     */
+    AsyncBackground(int kind, Object source, int placeholder) {
+        this(new Loader(kind, source, placeholder), null);
+    }
+
+    private AsyncBackground(Loader loader, Component owner) {
+        this.loader = loader;
+        this.owner = owner;
+    }
+
+    /**
+     * Returns a painter sharing the image of this painter that repaints the
+     * given component once its copy is ready
+     *
+     * @param cmp the component painted, null keeps this painter
+     * @return the painter to install on the component
+     */
+    AsyncBackground bind(Component cmp) {
+        if (cmp == null || cmp == owner) {
+            return this;
+        }
+        return new AsyncBackground(loader, cmp);
+    }
+
+    public void paint(Graphics g, Rectangle rect) {
+        int w = rect.getWidth();
+        int h = rect.getHeight();
+        if (w <= 0 || h <= 0) {
+            return;
+        }
+        Image scaled = ScaledBackground.lookup(loader.key, w, h);
+        if (scaled != null) {
+            g.drawImage(scaled, rect.getX(), rect.getY());
+            return;
+        }
+        int color = g.getColor();
+        g.setColor(loader.placeholder);
+        g.fillRect(rect.getX(), rect.getY(), w, h);
+        g.setColor(color);
+        loader.request(w, h, owner);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof AsyncBackground && ((AsyncBackground) obj).loader.key.equals(loader.key);
+    }
+
+    @Override
+    public int hashCode() {
+        return loader.key.hashCode();
+    }
+
+    /**
+     * Reads and decodes the image for every painter bound to it, the state is
+     * only touched on the EDT
+     */
+    private static final class Loader {
+
+        private final int kind;
+
+        // the name of the storage entry or the file, or the stream
+        private final Object source;
+
+        // the key of the copies in the cache of ScaledBackground
+        private final Object key;
+
+        private final int placeholder;
+
+        // the bytes of a stream once it was read
+        private byte[] data;
+
+        private boolean loading;
+
+        // the time before which a failed source isn't read again
+        private long retryAt;
+
+        // the sizes waiting for the decoded image
+        private final HashSet<Long> pending = new HashSet<Long>();
+
+        // the components to repaint once the copies are ready
+        private final ArrayList<Component> waiting = new ArrayList<Component>();
+
+        private boolean repaintForm;
+
+        Loader(int kind, Object source, int placeholder) {
+            this.kind = kind;
+            this.source = source;
+            this.key = kind == STREAM ? source : PREFIX[kind] + source;
+            this.placeholder = placeholder;
+        }
+
+        void request(int w, int h, Component owner) {
+            if (retryAt != 0 && System.currentTimeMillis() < retryAt) {
+                return;
+            }
+            if (owner == null) {
+                repaintForm = true;
+            } else if (!waiting.contains(owner)) {
+                waiting.add(owner);
+            }
+            pending.add(new Long(((long) w << 32) | h));
+            if (!loading) {
+                load();
+            }
+        }
+
+        private void load() {
+            loading = true;
+            final byte[] kept = data;
+            CN.scheduleBackgroundTask(new Runnable() {
+                public void run() {
+                    byte[] bytes = kept;
+                    Image full = null;
+                    try {
+                        if (bytes == null) {
+                            bytes = read();
+                        }
+                        full = Image.createImage(bytes, 0, bytes.length);
+                    } catch (IOException err) {
+                        Log.e(err);
+                    } catch (RuntimeException err) {
+                        // a corrupted image fails in the decoder
+                        Log.e(err);
+                    }
+                    final byte[] result = bytes;
+                    final Image decoded = full;
+                    CN.callSerially(new Runnable() {
+                        public void run() {
+                            loaded(result, decoded);
+                        }
+                    });
+                }
+            });
+        }
+
+        private byte[] read() throws IOException {
+            InputStream in;
+            switch (kind) {
+                case STORAGE:
+                    in = Storage.getInstance().createInputStream((String) source);
+                    break;
+                case FILE:
+                    in = FileSystemStorage.getInstance().openInputStream((String) source);
+                    break;
+                default:
+                    in = (InputStream) source;
+                    break;
+            }
+            try {
+                return Util.readInputStream(in);
+            } finally {
+                Util.cleanup(in);
+            }
+        }
+
+        /**
+         * Scales the decoded image to every pending size and repaints the
+         * components waiting for it
+         */
+        private void loaded(byte[] bytes, Image full) {
+            loading = false;
+            if (kind == STREAM && bytes != null) {
+                data = bytes;
+            }
+            if (full == null) {
+                // a stream that couldn't be read can't be read again
+                retryAt = kind == STREAM && data == null ? Long.MAX_VALUE
+                        : System.currentTimeMillis() + RETRY_DELAY;
+            } else {
+                retryAt = 0;
+                for (Long size : pending) {
+                    int w = (int) (size.longValue() >>> 32);
+                    int h = (int) size.longValue();
+                    ScaledBackground.store(key, w, h, full.fill(w, h));
+                }
+            }
+            pending.clear();
+            if (full == null) {
+                waiting.clear();
+                repaintForm = false;
+                return;
+            }
+            for (Component c : waiting) {
+                c.repaint();
+            }
+            waiting.clear();
+            if (repaintForm) {
+                repaintForm = false;
+                Form f = CN.getCurrentForm();
+                if (f != null) {
+                    f.repaint();
+                }
+            }
+        }
+    }
+}
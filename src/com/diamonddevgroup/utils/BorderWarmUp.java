@@ -0,0 +1,227 @@
+package com.diamonddevgroup.utils;
+
+import com.codename1.ui.CN;
+import com.codename1.ui.Component;
+import com.codename1.ui.Container;
+import com.codename1.ui.Form;
+import com.codename1.ui.Graphics;
+import com.codename1.ui.Image;
+import com.codename1.ui.events.ActionEvent;
+import com.codename1.ui.events.ActionListener;
+import com.codename1.ui.plaf.Border;
+import java.util.ArrayList;
+
+/**
+ * Renders the cached rasters of the {@link RoundedBorder} instances of a form
+ * before it is shown so its first frame doesn't rasterize and blur every
+ * border. The form is laid out at the size of the display and the borders of
+ * every state of each component are rendered at their final size, in slices
+ * that take at most the frame budget so a running transition stays smooth.
+ * <br><br>
+ * Only the borders that paint from the raster cache are rendered, borders
+ * without a shadow are painted directly and have nothing to warm up. When the
+ * disk cache of the borders is on, the shadows kept in storage are read in the
+ * background and the completion listener waits until they are in the cache.
+ * <br><br>
+ * <strong>Example:</strong><br>
+ * <code>new BorderWarmUp(myForm).onComplete(e -&gt; myForm.show()).start();</code>
+ *
+ * @author Diamond
+ */
+public final class BorderWarmUp {
+
+    /**
+     * The default time a slice may take in milliseconds
+     */
+    public static final int DEFAULT_FRAME_BUDGET = 8;
+
+    private final Form form;
+
+    private ActionListener<ActionEvent> onComplete;
+
+    private final Slicer slicer = new Slicer();
+
+    // the components of the form, collected once it is laid out
+    private Component[] queue;
+
+    private int next;
+
+    // bumped by cancel() so a start or a completion still waiting for the
+    // disk cache is dropped
+    private int cancelled;
+
+    /**
+     * Creates a warm-up for the borders of the form
+     *
+     * @param form the form about to be shown
+     */
+    public BorderWarmUp(Form form) {
+        this.form = form;
+    }
+
+    /**
+     * The time a slice may take, defaults to {@link #DEFAULT_FRAME_BUDGET}
+     *
+     * @param millis the budget in milliseconds per EDT cycle
+     * @return this warm-up
+     */
+    public BorderWarmUp frameBudget(int millis) {
+        slicer.setBudget(Math.max(1, millis));
+        return this;
+    }
+
+    /**
+     * Invoked on the EDT once every border is rendered and the shadows read
+     * from the disk cache are in the memory cache, the source of the event is
+     * this warm-up
+     *
+     * @param listener the listener to invoke
+     * @return this warm-up
+     */
+    public BorderWarmUp onComplete(ActionListener<ActionEvent> listener) {
+        this.onComplete = listener;
+        return this;
+    }
+
+    /**
+     * Starts the warm-up, the form is laid out in the first slice on the next
+     * EDT cycle. When the disk cache of the borders is on, the slices start
+     * once its index is read in the background.
+     *
+     * @return this warm-up
+     */
+    public BorderWarmUp start() {
+        final int current = cancelled;
+        MaskStore.whenIndexed(new Runnable() {
+            public void run() {
+                if (current == cancelled) {
+                    slicer.start();
+                }
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Stops the warm-up, the rasters rendered so far stay in the cache and the
+     * completion listener isn't invoked
+     */
+    public void cancel() {
+        cancelled++;
+        slicer.cancel();
+    }
+
+    /**
+     * True once the borders of every component are rendered
+     *
+     * @return whether the warm-up is complete
+     */
+    public boolean isDone() {
+        return queue != null && next >= queue.length;
+    }
+
+    /**
+     * The number of components whose borders are rendered so far
+     *
+     * @return the number of components
+     */
+    public int getProgress() {
+        return next;
+    }
+
+    /**
+     * Lays out a form that isn't showing at the size of the display so the
+     * components have the size they are painted at
+     */
+    private void layout() {
+        if (form != CN.getCurrentForm()) {
+            form.setWidth(CN.getDisplayWidth());
+            form.setHeight(CN.getDisplayHeight());
+            form.layoutContainer();
+        }
+    }
+
+    /**
+     * Lists the visible components of the laid out form
+     */
+    private void enqueue() {
+        ArrayList<Component> cmps = new ArrayList<Component>();
+        cmps.add(form);
+        collect(form, cmps);
+        queue = new Component[cmps.size()];
+        cmps.toArray(queue);
+    }
+
+    private static void collect(Container parent, ArrayList<Component> out) {
+        int count = parent.getComponentCount();
+        for (int iter = 0; iter < count; iter++) {
+            Component c = parent.getComponentAt(iter);
+            if (!c.isVisible()) {
+                continue;
+            }
+            out.add(c);
+            if (c instanceof Container) {
+                collect((Container) c, out);
+            }
+        }
+    }
+
+    private final class Slicer extends TimeSlicer {
+
+        // the rasters are cached as a side effect of painting into this
+        // clipped context, nothing is drawn that matters
+        private Graphics scratch;
+
+        // the setup steps already done, each runs in a step of its own so
+        // none of them holds the EDT for the whole setup
+        private boolean laidOut;
+
+        Slicer() {
+            super(DEFAULT_FRAME_BUDGET);
+        }
+
+        boolean step() {
+            if (!laidOut) {
+                laidOut = true;
+                layout();
+                return true;
+            }
+            if (queue == null) {
+                enqueue();
+                return true;
+            }
+            if (scratch == null && next < queue.length) {
+                scratch = Image.createImage(1, 1).getGraphics();
+                return true;
+            }
+            if (next >= queue.length) {
+                scratch = null;
+                return false;
+            }
+            Component c = queue[next++];
+            if (c.getWidth() <= 0 || c.getHeight() <= 0) {
+                return true;
+            }
+            Border previous = null;
+            for (int state = 0; state < StyleSpec.STATES; state++) {
+                Border b = Helper.style(c, state).getBorder();
+                if (b != previous && b instanceof RoundedBorder) {
+                    ((RoundedBorder) b).warmUp(scratch, c);
+                }
+                previous = b;
+            }
+            return true;
+        }
+
+        void done() {
+            final int current = cancelled;
+            MaskStore.whenIdle(new Runnable() {
+                public void run() {
+                    if (current == cancelled && onComplete != null) {
+                        onComplete.actionPerformed(new ActionEvent(BorderWarmUp.this));
+                    }
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.diamonddevgroup.utils;
+
+import com.codename1.ui.Font;
+import java.util.HashMap;
+
+/**
+ * A process wide cache of the fonts used by {@link Helper}. Each font is
+ * created and derived once for every face, size, style and density and the
+ * same instance is then shared by all the styled components.
+ *
+ * @author Diamond
+ */
+final class FontCache {
+
+    /**
+     * The height in millimeters of the small text size
+     */
+    static final float SMALL_MM = 2.5f;
+
+    /**
+     * The height in millimeters of the medium text size
+     */
+    static final float MEDIUM_MM = 3f;
+
+    /**
+     * The height in millimeters of the large text size
+     */
+    static final float LARGE_MM = 4f;
+
+    private static final HashMap<String, Font> fonts = new HashMap<String, Font>();
+
+    private FontCache() {
+    }
+
+    /**
+     * Returns the font for the given native face, size and style
+     *
+     * @param face the native font face e.g. {@code native:MainRegular}
+     * @param size one of {@code Font.SIZE_SMALL, Font.SIZE_MEDIUM,
+     * Font.SIZE_LARGE}
+     * @param style one of {@code Font.STYLE_PLAIN, Font.STYLE_BOLD,
+     * Font.STYLE_ITALIC}
+     * @return the shared font instance
+     */
+    static Font get(String face, int size, int style) {
+        float mm;
+        switch (size) {
+            case Font.SIZE_SMALL:
+                mm = SMALL_MM;
+                break;
+            case Font.SIZE_LARGE:
+                mm = LARGE_MM;
+                break;
+            default:
+                mm = MEDIUM_MM;
+                break;
+        }
+        // the pixel size changes with the density so it is part of the key
+        int pixels = Units.toPixels(mm);
+        String key = face + ':' + pixels + ':' + style;
+        Font font = fonts.get(key);
+        if (font == null) {
+            if (Font.isNativeFontSchemeSupported()) {
+                font = Font.createTrueTypeFont(face, face).derive(pixels, style);
+            } else {
+                font = Font.createSystemFont(Font.FACE_SYSTEM, style, size);
+            }
+            fonts.put(key, font);
+        }
+        return font;
+    }
+}
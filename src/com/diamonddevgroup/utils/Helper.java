@@ -1,10 +1,14 @@
 package com.diamonddevgroup.utils;
 
-import com.codename1.ui.CN;
 import com.codename1.ui.Component;
+import com.codename1.ui.Container;
+import com.codename1.ui.EncodedImage;
 import com.codename1.ui.Font;
 import com.codename1.ui.Image;
+import com.codename1.ui.Painter;
 import com.codename1.ui.plaf.Style;
+import java.io.InputStream;
+import java.util.HashSet;
 
 /**
  * A Helper library for basic styling using code in Codename One. This
@@ -18,9 +22,50 @@ import com.codename1.ui.plaf.Style;
  */
 public class Helper {
 
+    // the states a styling call applies to, the bit of each state is its
+    // index in StyleSpec
+    static final int UNSELECTED = 1;
+    static final int SELECTED = 2;
+    static final int PRESSED = 4;
+    static final int DISABLED = 8;
+    static final int ALL = 15;
+
+    // the sides a spacing call applies to, the bit of each side is its
+    // Component constant
+    private static final int SIDE_TOP = 1 << Component.TOP;
+    private static final int SIDE_BOTTOM = 1 << Component.BOTTOM;
+    private static final int SIDE_LEFT = 1 << Component.LEFT;
+    private static final int SIDE_RIGHT = 1 << Component.RIGHT;
+    private static final int SIDE_X = SIDE_LEFT | SIDE_RIGHT;
+    private static final int SIDE_Y = SIDE_TOP | SIDE_BOTTOM;
+    private static final int SIDE_ALL = SIDE_X | SIDE_Y;
+
+    // the spacing kinds, the offset of their sides in StyleSpec
+    private static final int MARGIN = 0;
+    private static final int PADDING = StyleSpec.PADDING;
+
+    // reused to look up shared borders without allocating, see border()
+    private static RoundedBorder borderProbe;
+
     Component[] cmps;
     int bg_trans;
 
+    /**
+     * True while the style writes are batched, see {@link #batch(Component...)}
+     */
+    private boolean batch;
+
+    /**
+     * The spec the styling calls are recorded into, see {@link #record()}
+     */
+    private StyleSpec spec;
+
+    /**
+     * True when margins and paddings are written in pixels, see
+     * {@link #pixels(Component...)}
+     */
+    private boolean pixels;
+
     /**
      * Root method to set component and begin chaining of other methods to apply
      * styling
@@ -31,10 +76,8 @@ public class Helper {
     public Helper(Component... component) {
         this.cmps = component;
         this.bg_trans = 255;
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginUnit(Style.UNIT_TYPE_DIPS);
-            c.getAllStyles().setPaddingUnit(Style.UNIT_TYPE_DIPS);
-        }
+        invalidate();
+        units(Style.UNIT_TYPE_DIPS);
     }
 
     /**
@@ -49,10 +92,8 @@ public class Helper {
     public Helper(byte unit, Component... component) {
         this.cmps = component;
         this.bg_trans = 255;
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginUnit(unit);
-            c.getAllStyles().setPaddingUnit(unit);
-        }
+        invalidate();
+        units(unit);
     }
 
     /**
@@ -68,13 +109,11 @@ public class Helper {
     public Helper(byte unit, int bgTrans, Component... component) {
         this.cmps = component;
         this.bg_trans = 255;
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginUnit(unit);
-            c.getAllStyles().setPaddingUnit(unit);
-            if (bgTrans >= 0 && bgTrans <= 255) {
-                this.bg_trans = bgTrans;
-            }
+        if (bgTrans >= 0 && bgTrans <= 255) {
+            this.bg_trans = bgTrans;
         }
+        invalidate();
+        units(unit);
     }
 
     /**
@@ -87,6 +126,7 @@ public class Helper {
      */
     public Helper(int bgTrans, Component... component) {
         this.cmps = component;
+        invalidate();
         for (Component c : cmps) {
             if (bgTrans >= 0 && bgTrans <= 255) {
                 this.bg_trans = bgTrans;
@@ -104,35 +144,241 @@ public class Helper {
      *
      */
     public Helper(Component component, byte unit) {
-        component.getAllStyles().setMarginUnit(unit);
-        component.getAllStyles().setPaddingUnit(unit);
         this.cmps = new Component[]{component};
         this.bg_trans = 255;
+        invalidate();
+        units(unit);
+    }
+
+    private Helper(byte unit, boolean batch, Component... component) {
+        this.cmps = component;
+        this.bg_trans = 255;
+        this.batch = batch;
+        if (batch) {
+            for (Component c : cmps) {
+                suppressChangeEvents(c, true);
+            }
+        }
+        invalidate();
+        units(unit);
+    }
+
+    private Helper(StyleSpec spec, byte unit) {
+        this.cmps = new Component[0];
+        this.bg_trans = 255;
+        this.spec = spec;
+        units(unit);
     }
 
     /**
-     * Applies 0 millimeters margin to top
+     * Begins styling the components in pixel mode. Margins and paddings are
+     * still given in millimeters but are converted to pixels as they are set,
+     * so the layout reads them without converting them on every pass. The
+     * values are converted again when a form holding the components changes
+     * size, which also covers a change of orientation.<br><br>
+     * <strong>Example:</strong><br>
+     * <code>Helper.pixels(myLabel).pa1().ma0().textGreen()</code>
      *
-     * @return the component with the applied styling to unselected state
+     * @param component components to apply styling to
+     * @return the helper to chain the styling calls on
      */
-    public Helper mt0_() {
+    public static Helper pixels(Component... component) {
+        Helper h = new Helper(Style.UNIT_TYPE_PIXELS, component);
+        h.pixels = true;
+        return h;
+    }
+
+    /**
+     * Converts the margins and paddings set in pixel mode again, for the rare
+     * components added to a form long after they were styled or when the
+     * density changed without the form changing size, see
+     * {@link #pixels(Component...)}
+     */
+    public static void refreshPixelUnits() {
+        PixelUnits.resolve();
+    }
+
+    /**
+     * Measures the components again against the constraints set by
+     * {@link #maxWidth(int)}, {@link #maxHeight(int)}, {@link #minWidth(int)}
+     * and {@link #minHeight(int)}. Components are measured again when they are
+     * added to a shown form or restyled, call this after changing their text,
+     * icon, children or anything else that affects their natural size.
+     *
+     * @param component the components to measure
+     */
+    public static void refreshConstraints(Component... component) {
+        for (Component c : component) {
+            SizeConstraints.refresh(c);
+        }
+    }
+
+    /**
+     * Begins recording a chain of styling calls into a {@link StyleSpec} that
+     * can then be applied to any number of components. The chain doesn't
+     * style any component itself.<br><br>
+     * <strong>Example:</strong><br>
+     * <code>StyleSpec card = Helper.record().pa1().ma0().textGreen().compile()</code>
+     *
+     * @return the helper to chain the styling calls on
+     */
+    public static Helper record() {
+        return new Helper(new StyleSpec(), Style.UNIT_TYPE_DIPS);
+    }
+
+    /**
+     * Begins recording a chain of styling calls with the given unit, see
+     * {@link #record()}
+     *
+     * @param unit unit of measurement, one of {@code Style.UNIT_TYPE_DIPS,
+     * Style.UNIT_TYPE_PIXELS, Style.UNIT_TYPE_SCREEN_PERCENTAGE}
+     * @return the helper to chain the styling calls on
+     */
+    public static Helper record(byte unit) {
+        return new Helper(new StyleSpec(), unit);
+    }
+
+    /**
+     * Compiles the calls recorded since {@link #record()} into a spec. The
+     * spec is a snapshot, calls chained afterwards don't change it.
+     *
+     * @return the compiled spec
+     * @throws IllegalStateException if the helper isn't recording
+     */
+    public StyleSpec compile() {
+        if (spec == null) {
+            throw new IllegalStateException("The helper isn't recording, use Helper.record()");
+        }
+        return spec.copy();
+    }
+
+    /**
+     * Begins a batch of styling on the components. The styles of the
+     * components don't fire change events until {@link #commit()} is called
+     * which then repaints each component and revalidates each of their
+     * containers once.<br><br>
+     * <strong>Example:</strong><br>
+     * <code>Helper.batch(myLabel, myButton).pa1().ma0().textGreen().commit()</code>
+     *
+     * @param component components to apply styling to
+     * @return the helper to chain the styling calls on
+     */
+    public static Helper batch(Component... component) {
+        return new Helper(Style.UNIT_TYPE_DIPS, true, component);
+    }
+
+    /**
+     * Begins a batch of styling on the components with the given unit, see
+     * {@link #batch(Component...)}
+     *
+     * @param unit unit of measurement, one of {@code Style.UNIT_TYPE_DIPS,
+     * Style.UNIT_TYPE_PIXELS, Style.UNIT_TYPE_SCREEN_PERCENTAGE}
+     * @param component components to apply styling to
+     * @return the helper to chain the styling calls on
+     */
+    public static Helper batch(byte unit, Component... component) {
+        return new Helper(unit, true, component);
+    }
+
+    /**
+     * Ends a batch started with {@link #batch(Component...)}, the change
+     * events of the styles are restored, every component is repainted once and
+     * every container holding the components is revalidated once. Styling
+     * calls chained after this are applied immediately.
+     *
+     * @return the helper to chain further styling calls on
+     */
+    public Helper commit() {
+        if (!batch) {
+            return this;
+        }
+        batch = false;
+        HashSet<Container> parents = new HashSet<Container>();
         for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginTop(0);
+            suppressChangeEvents(c, false);
+            c.setShouldCalcPreferredSize(true);
+            Container parent = c.getParent();
+            if (parent != null) {
+                parents.add(parent);
+            }
+            c.repaint();
+        }
+        for (Container parent : parents) {
+            parent.revalidate();
         }
         return this;
     }
 
+    /**
+     * The number of style writes skipped so far because the style already held
+     * the value. Reapplying a chain to a component that is already styled
+     * doesn't fire change events or repaint it.
+     *
+     * @return the number of skipped writes since the last reset
+     */
+    public static int getSuppressedWrites() {
+        return StyleWriter.getSuppressed();
+    }
+
+    /**
+     * Resets the counter of {@link #getSuppressedWrites()}
+     */
+    public static void resetSuppressedWrites() {
+        StyleWriter.resetSuppressed();
+    }
+
+    /**
+     * Sets the maximum amount of memory in bytes used by the scaled copies of
+     * the background images, see {@link #bgImage(Image)}. The least recently
+     * used copies are discarded once the budget is exceeded.
+     *
+     * @param bytes the size of the cache in bytes
+     */
+    public static void setBgImageCacheBudget(int bytes) {
+        ScaledBackground.getCache().setBudget(bytes);
+    }
+
+    /**
+     * The maximum amount of memory in bytes used by the scaled copies of the
+     * background images
+     *
+     * @return the size of the cache in bytes
+     */
+    public static int getBgImageCacheBudget() {
+        return ScaledBackground.getCache().getBudget();
+    }
+
+    /**
+     * Discards all the scaled copies of the background images, they are
+     * rendered again when painted
+     */
+    public static void clearBgImageCache() {
+        ScaledBackground.getCache().clear();
+    }
+
+    private static void suppressChangeEvents(Component c, boolean suppress) {
+        c.getUnselectedStyle().setSuppressChangeEvents(suppress);
+        c.getSelectedStyle().setSuppressChangeEvents(suppress);
+        c.getPressedStyle().setSuppressChangeEvents(suppress);
+        c.getDisabledStyle().setSuppressChangeEvents(suppress);
+    }
+
+    /**
+     * Applies 0 millimeters margin to top
+     *
+     * @return the component with the applied styling to unselected state
+     */
+    public Helper mt0_() {
+        return spacing(MARGIN, SIDE_TOP, 0, UNSELECTED);
+    }
+
     /**
      * Applies 0 millimeters margin to bottom
      *
      * @return the component with the applied styling to unselected state
      */
     public Helper mb0_() {
-
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginBottom(0);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_BOTTOM, 0, UNSELECTED);
     }
 
     /**
@@ -141,10 +387,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper ml0_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginLeft(0);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_LEFT, 0, UNSELECTED);
     }
 
     /**
@@ -153,10 +396,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mr0_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginRight(0);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_RIGHT, 0, UNSELECTED);
     }
 
     /**
@@ -165,9 +405,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mx0_() {
-        ml0_();
-        mr0_();
-        return this;
+        return spacing(MARGIN, SIDE_X, 0, UNSELECTED);
     }
 
     /**
@@ -176,9 +414,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper my0_() {
-        mt0_();
-        mb0_();
-        return this;
+        return spacing(MARGIN, SIDE_Y, 0, UNSELECTED);
     }
 
     /**
@@ -187,11 +423,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper ma0_() {
-        mt0_();
-        mb0_();
-        ml0_();
-        mr0_();
-        return this;
+        return spacing(MARGIN, SIDE_ALL, 0, UNSELECTED);
     }
 
     /**
@@ -200,10 +432,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mt1_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginTop(1);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_TOP, 1, UNSELECTED);
     }
 
     /**
@@ -212,10 +441,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mb1_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginBottom(1);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_BOTTOM, 1, UNSELECTED);
     }
 
     /**
@@ -224,10 +450,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper ml1_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginLeft(1);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_LEFT, 1, UNSELECTED);
     }
 
     /**
@@ -236,10 +459,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mr1_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginRight(1);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_RIGHT, 1, UNSELECTED);
     }
 
     /**
@@ -248,9 +468,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mx1_() {
-        ml1_();
-        mr1_();
-        return this;
+        return spacing(MARGIN, SIDE_X, 1, UNSELECTED);
     }
 
     /**
@@ -259,9 +477,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper my1_() {
-        mt1_();
-        mb1_();
-        return this;
+        return spacing(MARGIN, SIDE_Y, 1, UNSELECTED);
     }
 
     /**
@@ -270,11 +486,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper ma1_() {
-        mt1_();
-        mb1_();
-        ml1_();
-        mr1_();
-        return this;
+        return spacing(MARGIN, SIDE_ALL, 1, UNSELECTED);
     }
 
     /**
@@ -283,10 +495,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mt2_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginTop(2);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_TOP, 2, UNSELECTED);
     }
 
     /**
@@ -295,10 +504,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mb2_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginBottom(2);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_BOTTOM, 2, UNSELECTED);
     }
 
     /**
@@ -307,10 +513,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper ml2_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginLeft(2);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_LEFT, 2, UNSELECTED);
     }
 
     /**
@@ -319,10 +522,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mr2_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginRight(2);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_RIGHT, 2, UNSELECTED);
     }
 
     /**
@@ -331,9 +531,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mx2_() {
-        ml2_();
-        mr2_();
-        return this;
+        return spacing(MARGIN, SIDE_X, 2, UNSELECTED);
     }
 
     /**
@@ -342,9 +540,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper my2_() {
-        mt2_();
-        mb2_();
-        return this;
+        return spacing(MARGIN, SIDE_Y, 2, UNSELECTED);
     }
 
     /**
@@ -353,11 +549,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper ma2_() {
-        mt2_();
-        mb2_();
-        ml2_();
-        mr2_();
-        return this;
+        return spacing(MARGIN, SIDE_ALL, 2, UNSELECTED);
     }
 
     /**
@@ -366,10 +558,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mt3_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginTop(3);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_TOP, 3, UNSELECTED);
     }
 
     /**
@@ -378,10 +567,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mb3_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginBottom(3);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_BOTTOM, 3, UNSELECTED);
     }
 
     /**
@@ -390,10 +576,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper ml3_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginLeft(3);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_LEFT, 3, UNSELECTED);
     }
 
     /**
@@ -402,10 +585,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mr3_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginRight(3);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_RIGHT, 3, UNSELECTED);
     }
 
     /**
@@ -414,9 +594,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mx3_() {
-        ml3_();
-        mr3_();
-        return this;
+        return spacing(MARGIN, SIDE_X, 3, UNSELECTED);
     }
 
     /**
@@ -425,9 +603,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper my3_() {
-        mt3_();
-        mb3_();
-        return this;
+        return spacing(MARGIN, SIDE_Y, 3, UNSELECTED);
     }
 
     /**
@@ -436,11 +612,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper ma3_() {
-        mt3_();
-        mb3_();
-        ml3_();
-        mr3_();
-        return this;
+        return spacing(MARGIN, SIDE_ALL, 3, UNSELECTED);
     }
 
     /**
@@ -449,10 +621,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mt4_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginTop(4);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_TOP, 4, UNSELECTED);
     }
 
     /**
@@ -461,11 +630,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mb4_() {
-
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginBottom(4);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_BOTTOM, 4, UNSELECTED);
     }
 
     /**
@@ -474,10 +639,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper ml4_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginLeft(4);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_LEFT, 4, UNSELECTED);
     }
 
     /**
@@ -486,10 +648,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mr4_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginRight(4);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_RIGHT, 4, UNSELECTED);
     }
 
     /**
@@ -498,9 +657,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mx4_() {
-        ml4_();
-        mr4_();
-        return this;
+        return spacing(MARGIN, SIDE_X, 4, UNSELECTED);
     }
 
     /**
@@ -509,9 +666,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper my4_() {
-        mt4_();
-        mb4_();
-        return this;
+        return spacing(MARGIN, SIDE_Y, 4, UNSELECTED);
     }
 
     /**
@@ -520,11 +675,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper ma4_() {
-        mt4_();
-        mb4_();
-        ml4_();
-        mr4_();
-        return this;
+        return spacing(MARGIN, SIDE_ALL, 4, UNSELECTED);
     }
 
     /**
@@ -533,10 +684,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mt5_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginTop(5);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_TOP, 5, UNSELECTED);
     }
 
     /**
@@ -545,10 +693,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mb5_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginBottom(5);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_BOTTOM, 5, UNSELECTED);
     }
 
     /**
@@ -557,10 +702,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper ml5_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginLeft(5);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_LEFT, 5, UNSELECTED);
     }
 
     /**
@@ -569,10 +711,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mr5_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginRight(5);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_RIGHT, 5, UNSELECTED);
     }
 
     /**
@@ -581,9 +720,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mx5_() {
-        ml5_();
-        mr5_();
-        return this;
+        return spacing(MARGIN, SIDE_X, 5, UNSELECTED);
     }
 
     /**
@@ -592,9 +729,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper my5_() {
-        mt5_();
-        mb5_();
-        return this;
+        return spacing(MARGIN, SIDE_Y, 5, UNSELECTED);
     }
 
     /**
@@ -603,11 +738,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper ma5_() {
-        mt5_();
-        mb5_();
-        ml5_();
-        mr5_();
-        return this;
+        return spacing(MARGIN, SIDE_ALL, 5, UNSELECTED);
     }
 
     /**
@@ -616,10 +747,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mt6_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginTop(6);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_TOP, 6, UNSELECTED);
     }
 
     /**
@@ -628,10 +756,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mb6_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginBottom(6);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_BOTTOM, 6, UNSELECTED);
     }
 
     /**
@@ -640,10 +765,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper ml6_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginLeft(6);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_LEFT, 6, UNSELECTED);
     }
 
     /**
@@ -652,10 +774,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mr6_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginRight(6);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_RIGHT, 6, UNSELECTED);
     }
 
     /**
@@ -664,9 +783,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mx6_() {
-        ml6_();
-        mr6_();
-        return this;
+        return spacing(MARGIN, SIDE_X, 6, UNSELECTED);
     }
 
     /**
@@ -675,9 +792,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper my6_() {
-        mt6_();
-        mb6_();
-        return this;
+        return spacing(MARGIN, SIDE_Y, 6, UNSELECTED);
     }
 
     /**
@@ -686,11 +801,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper ma6_() {
-        mt6_();
-        mb6_();
-        ml6_();
-        mr6_();
-        return this;
+        return spacing(MARGIN, SIDE_ALL, 6, UNSELECTED);
     }
 
     /**
@@ -700,10 +811,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mt_(int size) {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginTop(size);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_TOP, size, UNSELECTED);
     }
 
     /**
@@ -713,10 +821,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mt_(float size) {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginTop(size);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_TOP, size, UNSELECTED);
     }
 
     /**
@@ -726,10 +831,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mb_(int size) {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginBottom(size);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_BOTTOM, size, UNSELECTED);
     }
 
     /**
@@ -739,10 +841,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mb_(float size) {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginBottom(size);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_BOTTOM, size, UNSELECTED);
     }
 
     /**
@@ -752,10 +851,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper ml_(int size) {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginLeft(size);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_LEFT, size, UNSELECTED);
     }
 
     /**
@@ -765,10 +861,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper ml_(float size) {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginLeft(size);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_LEFT, size, UNSELECTED);
     }
 
     /**
@@ -778,10 +871,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mr_(int size) {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginRight(size);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_RIGHT, size, UNSELECTED);
     }
 
     /**
@@ -791,10 +881,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mr_(float size) {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setMarginRight(size);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_RIGHT, size, UNSELECTED);
     }
 
     /**
@@ -804,9 +891,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mx_(int size) {
-        ml_(size);
-        mr_(size);
-        return this;
+        return spacing(MARGIN, SIDE_X, size, UNSELECTED);
     }
 
     /**
@@ -816,9 +901,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mx_(float size) {
-        ml_(size);
-        mr_(size);
-        return this;
+        return spacing(MARGIN, SIDE_X, size, UNSELECTED);
     }
 
     /**
@@ -828,9 +911,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper my_(int size) {
-        mt_(size);
-        mb_(size);
-        return this;
+        return spacing(MARGIN, SIDE_Y, size, UNSELECTED);
     }
 
     /**
@@ -840,9 +921,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper my_(float size) {
-        mt_(size);
-        mb_(size);
-        return this;
+        return spacing(MARGIN, SIDE_Y, size, UNSELECTED);
     }
 
     /**
@@ -852,11 +931,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper ma_(int size) {
-        mt_(size);
-        mb_(size);
-        ml_(size);
-        mr_(size);
-        return this;
+        return spacing(MARGIN, SIDE_ALL, size, UNSELECTED);
     }
 
     /**
@@ -866,11 +941,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper ma_(float size) {
-        mt_(size);
-        mb_(size);
-        ml_(size);
-        mr_(size);
-        return this;
+        return spacing(MARGIN, SIDE_ALL, size, UNSELECTED);
     }
 
     /**
@@ -879,10 +950,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pt0_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setPaddingTop(0);
-        }
-        return this;
+        return spacing(PADDING, SIDE_TOP, 0, UNSELECTED);
     }
 
     /**
@@ -891,10 +959,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pb0_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setPaddingBottom(0);
-        }
-        return this;
+        return spacing(PADDING, SIDE_BOTTOM, 0, UNSELECTED);
     }
 
     /**
@@ -903,10 +968,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pl0_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setPaddingLeft(0);
-        }
-        return this;
+        return spacing(PADDING, SIDE_LEFT, 0, UNSELECTED);
     }
 
     /**
@@ -915,10 +977,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pr0_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setPaddingRight(0);
-        }
-        return this;
+        return spacing(PADDING, SIDE_RIGHT, 0, UNSELECTED);
     }
 
     /**
@@ -927,9 +986,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper px0_() {
-        pl0_();
-        pr0_();
-        return this;
+        return spacing(PADDING, SIDE_X, 0, UNSELECTED);
     }
 
     /**
@@ -938,9 +995,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper py0_() {
-        pt0_();
-        pb0_();
-        return this;
+        return spacing(PADDING, SIDE_Y, 0, UNSELECTED);
     }
 
     /**
@@ -949,11 +1004,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pa0_() {
-        pt0_();
-        pb0_();
-        pl0_();
-        pr0_();
-        return this;
+        return spacing(PADDING, SIDE_ALL, 0, UNSELECTED);
     }
 
     /**
@@ -962,10 +1013,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pt1_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setPaddingTop(1);
-        }
-        return this;
+        return spacing(PADDING, SIDE_TOP, 1, UNSELECTED);
     }
 
     /**
@@ -974,10 +1022,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pb1_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setPaddingBottom(1);
-        }
-        return this;
+        return spacing(PADDING, SIDE_BOTTOM, 1, UNSELECTED);
     }
 
     /**
@@ -986,10 +1031,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pl1_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setPaddingLeft(1);
-        }
-        return this;
+        return spacing(PADDING, SIDE_LEFT, 1, UNSELECTED);
     }
 
     /**
@@ -998,10 +1040,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pr1_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setPaddingRight(1);
-        }
-        return this;
+        return spacing(PADDING, SIDE_RIGHT, 1, UNSELECTED);
     }
 
     /**
@@ -1010,9 +1049,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper px1_() {
-        pl1_();
-        pr1_();
-        return this;
+        return spacing(PADDING, SIDE_X, 1, UNSELECTED);
     }
 
     /**
@@ -1021,9 +1058,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper py1_() {
-        pt1_();
-        pb1_();
-        return this;
+        return spacing(PADDING, SIDE_Y, 1, UNSELECTED);
     }
 
     /**
@@ -1032,11 +1067,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pa1_() {
-        pt1_();
-        pb1_();
-        pl1_();
-        pr1_();
-        return this;
+        return spacing(PADDING, SIDE_ALL, 1, UNSELECTED);
     }
 
     /**
@@ -1045,10 +1076,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pt2_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setPaddingTop(2);
-        }
-        return this;
+        return spacing(PADDING, SIDE_TOP, 2, UNSELECTED);
     }
 
     /**
@@ -1057,10 +1085,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pb2_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setPaddingBottom(2);
-        }
-        return this;
+        return spacing(PADDING, SIDE_BOTTOM, 2, UNSELECTED);
     }
 
     /**
@@ -1069,10 +1094,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pl2_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setPaddingLeft(2);
-        }
-        return this;
+        return spacing(PADDING, SIDE_LEFT, 2, UNSELECTED);
     }
 
     /**
@@ -1081,10 +1103,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pr2_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setPaddingRight(2);
-        }
-        return this;
+        return spacing(PADDING, SIDE_RIGHT, 2, UNSELECTED);
     }
 
     /**
@@ -1093,9 +1112,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper px2_() {
-        pl2_();
-        pr2_();
-        return this;
+        return spacing(PADDING, SIDE_X, 2, UNSELECTED);
     }
 
     /**
@@ -1104,9 +1121,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper py2_() {
-        pt2_();
-        pb2_();
-        return this;
+        return spacing(PADDING, SIDE_Y, 2, UNSELECTED);
     }
 
     /**
@@ -1115,11 +1130,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pa2_() {
-        pt2_();
-        pb2_();
-        pl2_();
-        pr2_();
-        return this;
+        return spacing(PADDING, SIDE_ALL, 2, UNSELECTED);
     }
 
     /**
@@ -1128,10 +1139,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pt3_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setPaddingTop(3);
-        }
-        return this;
+        return spacing(PADDING, SIDE_TOP, 3, UNSELECTED);
     }
 
     /**
@@ -1140,10 +1148,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pb3_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setPaddingBottom(3);
-        }
-        return this;
+        return spacing(PADDING, SIDE_BOTTOM, 3, UNSELECTED);
     }
 
     /**
@@ -1152,11 +1157,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pl3_() {
-
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setPaddingLeft(3);
-        }
-        return this;
+        return spacing(PADDING, SIDE_LEFT, 3, UNSELECTED);
     }
 
     /**
@@ -1165,10 +1166,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pr3_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setPaddingRight(3);
-        }
-        return this;
+        return spacing(PADDING, SIDE_RIGHT, 3, UNSELECTED);
     }
 
     /**
@@ -1177,9 +1175,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper px3_() {
-        pl3_();
-        pr3_();
-        return this;
+        return spacing(PADDING, SIDE_X, 3, UNSELECTED);
     }
 
     /**
@@ -1188,9 +1184,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper py3_() {
-        pt3_();
-        pb3_();
-        return this;
+        return spacing(PADDING, SIDE_Y, 3, UNSELECTED);
     }
 
     /**
@@ -1199,11 +1193,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pa3_() {
-        pt3_();
-        pb3_();
-        pl3_();
-        pr3_();
-        return this;
+        return spacing(PADDING, SIDE_ALL, 3, UNSELECTED);
     }
 
     /**
@@ -1212,10 +1202,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pt4_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setPaddingTop(4);
-        }
-        return this;
+        return spacing(PADDING, SIDE_TOP, 4, UNSELECTED);
     }
 
     /**
@@ -1224,10 +1211,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pb4_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setPaddingBottom(4);
-        }
-        return this;
+        return spacing(PADDING, SIDE_BOTTOM, 4, UNSELECTED);
     }
 
     /**
@@ -1236,10 +1220,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pl4_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setPaddingLeft(4);
-        }
-        return this;
+        return spacing(PADDING, SIDE_LEFT, 4, UNSELECTED);
     }
 
     /**
@@ -1248,10 +1229,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pr4_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setPaddingRight(4);
-        }
-        return this;
+        return spacing(PADDING, SIDE_RIGHT, 4, UNSELECTED);
     }
 
     /**
@@ -1260,9 +1238,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper px4_() {
-        pl4_();
-        pr4_();
-        return this;
+        return spacing(PADDING, SIDE_X, 4, UNSELECTED);
     }
 
     /**
@@ -1271,9 +1247,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper py4_() {
-        pt4_();
-        pb4_();
-        return this;
+        return spacing(PADDING, SIDE_Y, 4, UNSELECTED);
     }
 
     /**
@@ -1282,11 +1256,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pa4_() {
-        pt4_();
-        pb4_();
-        pl4_();
-        pr4_();
-        return this;
+        return spacing(PADDING, SIDE_ALL, 4, UNSELECTED);
     }
 
     /**
@@ -1295,10 +1265,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pt5_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setPaddingTop(5);
-        }
-        return this;
+        return spacing(PADDING, SIDE_TOP, 5, UNSELECTED);
     }
 
     /**
@@ -1307,10 +1274,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pb5_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setPaddingBottom(5);
-        }
-        return this;
+        return spacing(PADDING, SIDE_BOTTOM, 5, UNSELECTED);
     }
 
     /**
@@ -1319,10 +1283,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pl5_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setPaddingLeft(5);
-        }
-        return this;
+        return spacing(PADDING, SIDE_LEFT, 5, UNSELECTED);
     }
 
     /**
@@ -1331,10 +1292,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pr5_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setPaddingRight(5);
-        }
-        return this;
+        return spacing(PADDING, SIDE_RIGHT, 5, UNSELECTED);
     }
 
     /**
@@ -1343,9 +1301,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper px5_() {
-        pl5_();
-        pr5_();
-        return this;
+        return spacing(PADDING, SIDE_X, 5, UNSELECTED);
     }
 
     /**
@@ -1354,9 +1310,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper py5_() {
-        pt5_();
-        pb5_();
-        return this;
+        return spacing(PADDING, SIDE_Y, 5, UNSELECTED);
     }
 
     /**
@@ -1365,11 +1319,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pa5_() {
-        pt5_();
-        pb5_();
-        pl5_();
-        pr5_();
-        return this;
+        return spacing(PADDING, SIDE_ALL, 5, UNSELECTED);
     }
 
     /**
@@ -1378,10 +1328,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pt6_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setPaddingTop(6);
-        }
-        return this;
+        return spacing(PADDING, SIDE_TOP, 6, UNSELECTED);
     }
 
     /**
@@ -1390,10 +1337,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pb6_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setPaddingBottom(6);
-        }
-        return this;
+        return spacing(PADDING, SIDE_BOTTOM, 6, UNSELECTED);
     }
 
     /**
@@ -1402,10 +1346,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pl6_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setPaddingLeft(6);
-        }
-        return this;
+        return spacing(PADDING, SIDE_LEFT, 6, UNSELECTED);
     }
 
     /**
@@ -1414,10 +1355,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pr6_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setPaddingRight(6);
-        }
-        return this;
+        return spacing(PADDING, SIDE_RIGHT, 6, UNSELECTED);
     }
 
     /**
@@ -1426,9 +1364,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper px6_() {
-        pl6_();
-        pr6_();
-        return this;
+        return spacing(PADDING, SIDE_X, 6, UNSELECTED);
     }
 
     /**
@@ -1437,9 +1373,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper py6_() {
-        pt6_();
-        pb6_();
-        return this;
+        return spacing(PADDING, SIDE_Y, 6, UNSELECTED);
     }
 
     /**
@@ -1448,11 +1382,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper pa6_() {
-        pt6_();
-        pb6_();
-        pl6_();
-        pr6_();
-        return this;
+        return spacing(PADDING, SIDE_ALL, 6, UNSELECTED);
     }
 
     /**
@@ -1462,10 +1392,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pt_(int size) {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingTop(size);
-        }
-        return this;
+        return spacing(PADDING, SIDE_TOP, size, ALL);
     }
 
     /**
@@ -1475,10 +1402,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pt_(float size) {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingTop(size);
-        }
-        return this;
+        return spacing(PADDING, SIDE_TOP, size, ALL);
     }
 
     /**
@@ -1488,10 +1412,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pb_(int size) {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingBottom(size);
-        }
-        return this;
+        return spacing(PADDING, SIDE_BOTTOM, size, ALL);
     }
 
     /**
@@ -1501,10 +1422,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pb_(float size) {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingBottom(size);
-        }
-        return this;
+        return spacing(PADDING, SIDE_BOTTOM, size, ALL);
     }
 
     /**
@@ -1514,10 +1432,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pl_(int size) {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingLeft(size);
-        }
-        return this;
+        return spacing(PADDING, SIDE_LEFT, size, ALL);
     }
 
     /**
@@ -1527,10 +1442,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pl_(float size) {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingLeft(size);
-        }
-        return this;
+        return spacing(PADDING, SIDE_LEFT, size, ALL);
     }
 
     /**
@@ -1540,10 +1452,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pr_(int size) {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingRight(size);
-        }
-        return this;
+        return spacing(PADDING, SIDE_RIGHT, size, ALL);
     }
 
     /**
@@ -1553,10 +1462,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pr_(float size) {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingRight(size);
-        }
-        return this;
+        return spacing(PADDING, SIDE_RIGHT, size, ALL);
     }
 
     /**
@@ -1566,9 +1472,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper px_(int size) {
-        pl_(size);
-        pr_(size);
-        return this;
+        return spacing(PADDING, SIDE_X, size, UNSELECTED);
     }
 
     /**
@@ -1578,9 +1482,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper px_(float size) {
-        pl_(size);
-        pr_(size);
-        return this;
+        return spacing(PADDING, SIDE_X, size, UNSELECTED);
     }
 
     /**
@@ -1590,9 +1492,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper py_(int size) {
-        pt_(size);
-        pb_(size);
-        return this;
+        return spacing(PADDING, SIDE_Y, size, UNSELECTED);
     }
 
     /**
@@ -1602,9 +1502,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper py_(float size) {
-        pt_(size);
-        pb_(size);
-        return this;
+        return spacing(PADDING, SIDE_Y, size, UNSELECTED);
     }
 
     /**
@@ -1614,11 +1512,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pa_(int size) {
-        pt_(size);
-        pb_(size);
-        pl_(size);
-        pr_(size);
-        return this;
+        return spacing(PADDING, SIDE_ALL, size, UNSELECTED);
     }
 
     /**
@@ -1628,11 +1522,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pa_(float size) {
-        pt_(size);
-        pb_(size);
-        pl_(size);
-        pr_(size);
-        return this;
+        return spacing(PADDING, SIDE_ALL, size, UNSELECTED);
     }
 
     /**
@@ -1642,10 +1532,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textColor_(int color) {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setFgColor(color);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, color, UNSELECTED);
     }
 
     /**
@@ -1654,10 +1541,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textMuted_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setFgColor(0x818a91);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x818a91, UNSELECTED);
     }
 
     /**
@@ -1666,10 +1550,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textPrimary_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setFgColor(0x145F80);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x145F80, UNSELECTED);
     }
 
     /**
@@ -1678,10 +1559,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textSuccess_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setFgColor(0x5cb85c);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x5cb85c, UNSELECTED);
     }
 
     /**
@@ -1690,10 +1568,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textInfo_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setFgColor(0x5bc0de);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x5bc0de, UNSELECTED);
     }
 
     /**
@@ -1702,10 +1577,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textWarning_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setFgColor(0xf0ad4e);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0xf0ad4e, UNSELECTED);
     }
 
     /**
@@ -1714,10 +1586,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textDanger_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setFgColor(0xd9534f);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0xd9534f, UNSELECTED);
     }
 
     /**
@@ -1726,10 +1595,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textRed_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setFgColor(0xf44336);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0xf44336, UNSELECTED);
     }
 
     /**
@@ -1738,10 +1604,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textPink_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setFgColor(0xe91e63);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0xe91e63, UNSELECTED);
     }
 
     /**
@@ -1750,10 +1613,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textPurple_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setFgColor(0x9c27b0);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x9c27b0, UNSELECTED);
     }
 
     /**
@@ -1762,10 +1622,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textDeepPurple_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setFgColor(0x673ab7);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x673ab7, UNSELECTED);
     }
 
     /**
@@ -1774,10 +1631,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textIndigo_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setFgColor(0x3f51b5);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x3f51b5, UNSELECTED);
     }
 
     /**
@@ -1786,10 +1640,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textBlue_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setFgColor(0x2196F3);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x2196F3, UNSELECTED);
     }
 
     /**
@@ -1798,10 +1649,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textLightBlue_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setFgColor(0x03a9f4);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x03a9f4, UNSELECTED);
     }
 
     /**
@@ -1810,10 +1658,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textCyan_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setFgColor(0x00bcd4);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x00bcd4, UNSELECTED);
     }
 
     /**
@@ -1822,10 +1667,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textTeal_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setFgColor(0x009688);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x009688, UNSELECTED);
     }
 
     /**
@@ -1834,10 +1676,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textGreen_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setFgColor(0x4caf50);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x4caf50, UNSELECTED);
     }
 
     /**
@@ -1846,10 +1685,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textLightGreen_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setFgColor(0x8bc34a);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x8bc34a, UNSELECTED);
     }
 
     /**
@@ -1858,10 +1694,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textLime_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setFgColor(0xcddc39);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0xcddc39, UNSELECTED);
     }
 
     /**
@@ -1870,10 +1703,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textYellow_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setFgColor(0xffeb3b);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0xffeb3b, UNSELECTED);
     }
 
     /**
@@ -1882,10 +1712,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textAmber_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setFgColor(0xffc107);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0xffc107, UNSELECTED);
     }
 
     /**
@@ -1894,10 +1721,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textOrange_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setFgColor(0xff9800);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0xff9800, UNSELECTED);
     }
 
     /**
@@ -1906,10 +1730,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textDeepOrange_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setFgColor(0xff5722);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0xff5722, UNSELECTED);
     }
 
     /**
@@ -1918,10 +1739,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textBrown_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setFgColor(0x795548);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x795548, UNSELECTED);
     }
 
     /**
@@ -1930,10 +1748,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textGrey_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setFgColor(0x9e9e9e);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x9e9e9e, UNSELECTED);
     }
 
     /**
@@ -1942,10 +1757,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textBlueGrey_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setFgColor(0x607d8b);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x607d8b, UNSELECTED);
     }
 
     /**
@@ -1954,10 +1766,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textBlack_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setFgColor(0x000000);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x000000, UNSELECTED);
     }
 
     /**
@@ -1966,10 +1775,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textWhite_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setFgColor(0xffffff);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0xffffff, UNSELECTED);
     }
 
     /**
@@ -1979,11 +1785,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper bgColor_(int color) {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setBgTransparency(this.bg_trans);
-            c.getUnselectedStyle().setBgColor(color);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, color, UNSELECTED);
     }
 
     /**
@@ -1993,11 +1795,7 @@ public class Helper {
      * @return the component with the applied styling to pressed state
      */
     public Helper bgColor___(int color) {
-        for (Component c : cmps) {
-            c.getPressedStyle().setBgTransparency(this.bg_trans);
-            c.getPressedStyle().setBgColor(color);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, color, PRESSED);
     }
 
     /**
@@ -2007,11 +1805,7 @@ public class Helper {
      * @return the component with the applied styling to disabled state
      */
     public Helper bgColor____(int color) {
-        for (Component c : cmps) {
-            c.getDisabledStyle().setBgTransparency(this.bg_trans);
-            c.getDisabledStyle().setBgColor(color);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, color, DISABLED);
     }
 
     /**
@@ -2020,11 +1814,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper bgMuted_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setBgTransparency(this.bg_trans);
-            c.getUnselectedStyle().setBgColor(0x818a91);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x818a91, UNSELECTED);
     }
 
     /**
@@ -2033,11 +1823,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper bgPrimary_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setBgTransparency(this.bg_trans);
-            c.getUnselectedStyle().setBgColor(0x145F80);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x145F80, UNSELECTED);
     }
 
     /**
@@ -2046,11 +1832,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper bgSuccess_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setBgTransparency(this.bg_trans);
-            c.getUnselectedStyle().setBgColor(0x5cb85c);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x5cb85c, UNSELECTED);
     }
 
     /**
@@ -2059,11 +1841,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper bgInfo_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setBgTransparency(this.bg_trans);
-            c.getUnselectedStyle().setBgColor(0x5bc0de);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x5bc0de, UNSELECTED);
     }
 
     /**
@@ -2072,11 +1850,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper bgWarning_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setBgTransparency(this.bg_trans);
-            c.getUnselectedStyle().setBgColor(0xf0ad4e);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0xf0ad4e, UNSELECTED);
     }
 
     /**
@@ -2085,11 +1859,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper bgDanger_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setBgTransparency(this.bg_trans);
-            c.getUnselectedStyle().setBgColor(0xd9534f);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0xd9534f, UNSELECTED);
     }
 
     /**
@@ -2098,11 +1868,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper bgRed_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setBgTransparency(this.bg_trans);
-            c.getUnselectedStyle().setBgColor(0xf44336);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0xf44336, UNSELECTED);
     }
 
     /**
@@ -2111,11 +1877,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper bgPink_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setBgTransparency(this.bg_trans);
-            c.getUnselectedStyle().setBgColor(0xe91e63);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0xe91e63, UNSELECTED);
     }
 
     /**
@@ -2124,11 +1886,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper bgPurple_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setBgTransparency(this.bg_trans);
-            c.getUnselectedStyle().setBgColor(0x9c27b0);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x9c27b0, UNSELECTED);
     }
 
     /**
@@ -2137,11 +1895,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper bgDeepPurple_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setBgTransparency(this.bg_trans);
-            c.getUnselectedStyle().setBgColor(0x673ab7);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x673ab7, UNSELECTED);
     }
 
     /**
@@ -2150,11 +1904,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper bgIndigo_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setBgTransparency(this.bg_trans);
-            c.getUnselectedStyle().setBgColor(0x3f51b5);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x3f51b5, UNSELECTED);
     }
 
     /**
@@ -2163,11 +1913,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper bgBlue_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setBgTransparency(this.bg_trans);
-            c.getUnselectedStyle().setBgColor(0x2196F3);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x2196F3, UNSELECTED);
     }
 
     /**
@@ -2176,11 +1922,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper bgLightBlue_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setBgTransparency(this.bg_trans);
-            c.getUnselectedStyle().setBgColor(0x03a9f4);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x03a9f4, UNSELECTED);
     }
 
     /**
@@ -2189,11 +1931,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper bgCyan_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setBgTransparency(this.bg_trans);
-            c.getUnselectedStyle().setBgColor(0x00bcd4);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x00bcd4, UNSELECTED);
     }
 
     /**
@@ -2202,11 +1940,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper bgTeal_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setBgTransparency(this.bg_trans);
-            c.getUnselectedStyle().setBgColor(0x009688);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x009688, UNSELECTED);
     }
 
     /**
@@ -2215,11 +1949,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper bgGreen_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setBgTransparency(this.bg_trans);
-            c.getUnselectedStyle().setBgColor(0x4caf50);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x4caf50, UNSELECTED);
     }
 
     /**
@@ -2228,11 +1958,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper bgLightGreen_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setBgTransparency(this.bg_trans);
-            c.getUnselectedStyle().setBgColor(0x8bc34a);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x8bc34a, UNSELECTED);
     }
 
     /**
@@ -2241,11 +1967,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper bgLime_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setBgTransparency(this.bg_trans);
-            c.getUnselectedStyle().setBgColor(0xcddc39);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0xcddc39, UNSELECTED);
     }
 
     /**
@@ -2254,11 +1976,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper bgYellow_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setBgTransparency(this.bg_trans);
-            c.getUnselectedStyle().setBgColor(0xffeb3b);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0xffeb3b, UNSELECTED);
     }
 
     /**
@@ -2267,11 +1985,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper bgAmber_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setBgTransparency(this.bg_trans);
-            c.getUnselectedStyle().setBgColor(0xffc107);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0xffc107, UNSELECTED);
     }
 
     /**
@@ -2280,11 +1994,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper bgOrange_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setBgTransparency(this.bg_trans);
-            c.getUnselectedStyle().setBgColor(0xff9800);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0xff9800, UNSELECTED);
     }
 
     /**
@@ -2293,11 +2003,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper bgDeepOrange_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setBgTransparency(this.bg_trans);
-            c.getUnselectedStyle().setBgColor(0xff5722);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0xff5722, UNSELECTED);
     }
 
     /**
@@ -2306,11 +2012,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper bgBrown_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setBgTransparency(this.bg_trans);
-            c.getUnselectedStyle().setBgColor(0x795548);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x795548, UNSELECTED);
     }
 
     /**
@@ -2319,11 +2021,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper bgGrey_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setBgTransparency(this.bg_trans);
-            c.getUnselectedStyle().setBgColor(0x9e9e9e);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x9e9e9e, UNSELECTED);
     }
 
     /**
@@ -2332,11 +2030,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper bgLightGrey_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setBgTransparency(this.bg_trans);
-            c.getUnselectedStyle().setBgColor(0xebebeb);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0xebebeb, UNSELECTED);
     }
 
     /**
@@ -2345,11 +2039,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper bgBlueGrey_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setBgTransparency(this.bg_trans);
-            c.getUnselectedStyle().setBgColor(0x607d8b);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x607d8b, UNSELECTED);
     }
 
     /**
@@ -2358,11 +2048,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper bgBlack_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setBgTransparency(this.bg_trans);
-            c.getUnselectedStyle().setBgColor(0x000000);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x000000, UNSELECTED);
     }
 
     /**
@@ -2371,11 +2057,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper bgWhite_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setBgTransparency(this.bg_trans);
-            c.getUnselectedStyle().setBgColor(0xffffff);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0xffffff, UNSELECTED);
     }
 
     /**
@@ -2384,12 +2066,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textSmall_() {
-        for (Component c : cmps) {
-            final Font font = Font.createTrueTypeFont("native:MainRegular", "native:MainRegular");
-            font.derive(Font.SIZE_SMALL, Font.STYLE_PLAIN);
-            c.getUnselectedStyle().setFont(font);
-        }
-        return this;
+        return write(StyleSpec.FONT, FontCache.get("native:MainRegular", Font.SIZE_SMALL, Font.STYLE_PLAIN), UNSELECTED);
     }
 
     /**
@@ -2398,12 +2075,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textMedium_() {
-        for (Component c : cmps) {
-            final Font font = Font.createTrueTypeFont("native:MainRegular", "native:MainRegular");
-            font.derive(Font.SIZE_MEDIUM, Font.STYLE_PLAIN);
-            c.getUnselectedStyle().setFont(font);
-        }
-        return this;
+        return write(StyleSpec.FONT, FontCache.get("native:MainRegular", Font.SIZE_MEDIUM, Font.STYLE_PLAIN), UNSELECTED);
     }
 
     /**
@@ -2412,12 +2084,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textLarge_() {
-        for (Component c : cmps) {
-            final Font font = Font.createTrueTypeFont("native:MainRegular", "native:MainRegular");
-            font.derive(Font.SIZE_LARGE, Font.STYLE_PLAIN);
-            c.getUnselectedStyle().setFont(font);
-        }
-        return this;
+        return write(StyleSpec.FONT, FontCache.get("native:MainRegular", Font.SIZE_LARGE, Font.STYLE_PLAIN), UNSELECTED);
     }
 
     /**
@@ -2426,12 +2093,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textBold_() {
-        for (Component c : cmps) {
-            final Font font = Font.createTrueTypeFont("native:MainBold", "native:MainBold");
-            font.derive(Font.SIZE_MEDIUM, Font.STYLE_BOLD);
-            c.getUnselectedStyle().setFont(font);
-        }
-        return this;
+        return write(StyleSpec.FONT, FontCache.get("native:MainBold", Font.SIZE_MEDIUM, Font.STYLE_BOLD), UNSELECTED);
     }
 
     /**
@@ -2440,12 +2102,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textLight_() {
-        for (Component c : cmps) {
-            final Font font = Font.createTrueTypeFont("native:MainLight", "native:MainLight");
-            font.derive(Font.SIZE_MEDIUM, Font.STYLE_PLAIN);
-            c.getUnselectedStyle().setFont(font);
-        }
-        return this;
+        return write(StyleSpec.FONT, FontCache.get("native:MainLight", Font.SIZE_MEDIUM, Font.STYLE_PLAIN), UNSELECTED);
     }
 
     /**
@@ -2454,12 +2111,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textItalic_() {
-        for (Component c : cmps) {
-            final Font font = Font.createTrueTypeFont("native:ItalicRegular", "native:ItalicRegular");
-            font.derive(Font.SIZE_MEDIUM, Font.STYLE_ITALIC);
-            c.getUnselectedStyle().setFont(font);
-        }
-        return this;
+        return write(StyleSpec.FONT, FontCache.get("native:ItalicRegular", Font.SIZE_MEDIUM, Font.STYLE_ITALIC), UNSELECTED);
     }
 
     /**
@@ -2468,10 +2120,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textLeft_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setAlignment(Component.LEFT);
-        }
-        return this;
+        return write(StyleSpec.ALIGNMENT, Component.LEFT, UNSELECTED);
     }
 
     /**
@@ -2480,10 +2129,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textRight_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setAlignment(Component.RIGHT);
-        }
-        return this;
+        return write(StyleSpec.ALIGNMENT, Component.RIGHT, UNSELECTED);
     }
 
     /**
@@ -2492,10 +2138,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper textCenter_() {
-        for (Component c : cmps) {
-            c.getUnselectedStyle().setAlignment(Component.CENTER);
-        }
-        return this;
+        return write(StyleSpec.ALIGNMENT, Component.CENTER, UNSELECTED);
     }
 
     /**
@@ -2508,12 +2151,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper maxWidth(int width) {
-        for (Component c : cmps) {
-            if (c.getPreferredW() > width) {
-                c.setPreferredW(width);
-            }
-        }
-        return this;
+        return constrain(StyleSpec.MAX_WIDTH, width);
     }
 
     /**
@@ -2523,12 +2161,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper maxHeight(int height) {
-        for (Component c : cmps) {
-            if (c.getPreferredH() > height) {
-                c.setPreferredH(height);
-            }
-        }
-        return this;
+        return constrain(StyleSpec.MAX_HEIGHT, height);
     }
 
     /**
@@ -2538,12 +2171,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper minWidth(int width) {
-        for (Component c : cmps) {
-            if (c.getPreferredW() < width) {
-                c.setPreferredW(width);
-            }
-        }
-        return this;
+        return constrain(StyleSpec.MIN_WIDTH, width);
     }
 
     /**
@@ -2553,12 +2181,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper minHeight(int height) {
-        for (Component c : cmps) {
-            if (c.getPreferredH() < height) {
-                c.setPreferredH(height);
-            }
-        }
-        return this;
+        return constrain(StyleSpec.MIN_HEIGHT, height);
     }
 
     /**
@@ -2567,10 +2190,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper mt0() {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginTop(0);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_TOP, 0, ALL);
     }
 
     /**
@@ -2579,10 +2199,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper mb0() {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginBottom(0);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_BOTTOM, 0, ALL);
     }
 
     /**
@@ -2591,10 +2208,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper ml0() {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginLeft(0);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_LEFT, 0, ALL);
     }
 
     /**
@@ -2603,10 +2217,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper mr0() {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginRight(0);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_RIGHT, 0, ALL);
     }
 
     /**
@@ -2615,9 +2226,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper mx0() {
-        ml0();
-        mr0();
-        return this;
+        return spacing(MARGIN, SIDE_X, 0, ALL);
     }
 
     /**
@@ -2626,9 +2235,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper my0() {
-        mt0();
-        mb0();
-        return this;
+        return spacing(MARGIN, SIDE_Y, 0, ALL);
     }
 
     /**
@@ -2637,11 +2244,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper ma0() {
-        mt0();
-        mb0();
-        ml0();
-        mr0();
-        return this;
+        return spacing(MARGIN, SIDE_ALL, 0, ALL);
     }
 
     /**
@@ -2650,10 +2253,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper mt1() {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginTop(1);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_TOP, 1, ALL);
     }
 
     /**
@@ -2662,10 +2262,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper mb1() {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginBottom(1);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_BOTTOM, 1, ALL);
     }
 
     /**
@@ -2674,10 +2271,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper ml1() {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginLeft(1);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_LEFT, 1, ALL);
     }
 
     /**
@@ -2686,10 +2280,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper mr1() {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginRight(1);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_RIGHT, 1, ALL);
     }
 
     /**
@@ -2698,9 +2289,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper mx1() {
-        ml1();
-        mr1();
-        return this;
+        return spacing(MARGIN, SIDE_X, 1, ALL);
     }
 
     /**
@@ -2709,9 +2298,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper my1() {
-        mt1();
-        mb1();
-        return this;
+        return spacing(MARGIN, SIDE_Y, 1, ALL);
     }
 
     /**
@@ -2720,11 +2307,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper ma1() {
-        mt1();
-        mb1();
-        ml1();
-        mr1();
-        return this;
+        return spacing(MARGIN, SIDE_ALL, 1, ALL);
     }
 
     /**
@@ -2733,10 +2316,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper mt2() {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginTop(2);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_TOP, 2, ALL);
     }
 
     /**
@@ -2745,10 +2325,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper mb2() {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginBottom(2);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_BOTTOM, 2, ALL);
     }
 
     /**
@@ -2757,10 +2334,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper ml2() {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginLeft(2);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_LEFT, 2, ALL);
     }
 
     /**
@@ -2769,10 +2343,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper mr2() {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginRight(2);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_RIGHT, 2, ALL);
     }
 
     /**
@@ -2781,9 +2352,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper mx2() {
-        ml2();
-        mr2();
-        return this;
+        return spacing(MARGIN, SIDE_X, 2, ALL);
     }
 
     /**
@@ -2792,9 +2361,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper my2() {
-        mt2();
-        mb2();
-        return this;
+        return spacing(MARGIN, SIDE_Y, 2, ALL);
     }
 
     /**
@@ -2803,11 +2370,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper ma2() {
-        mt2();
-        mb2();
-        ml2();
-        mr2();
-        return this;
+        return spacing(MARGIN, SIDE_ALL, 2, ALL);
     }
 
     /**
@@ -2816,10 +2379,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper mt3() {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginTop(3);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_TOP, 3, ALL);
     }
 
     /**
@@ -2828,10 +2388,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper mb3() {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginBottom(3);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_BOTTOM, 3, ALL);
     }
 
     /**
@@ -2840,10 +2397,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper ml3() {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginLeft(3);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_LEFT, 3, ALL);
     }
 
     /**
@@ -2852,10 +2406,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper mr3() {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginRight(3);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_RIGHT, 3, ALL);
     }
 
     /**
@@ -2864,9 +2415,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper mx3() {
-        ml3();
-        mr3();
-        return this;
+        return spacing(MARGIN, SIDE_X, 3, ALL);
     }
 
     /**
@@ -2875,9 +2424,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper my3() {
-        mt3();
-        mb3();
-        return this;
+        return spacing(MARGIN, SIDE_Y, 3, ALL);
     }
 
     /**
@@ -2886,11 +2433,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper ma3() {
-        mt3();
-        mb3();
-        ml3();
-        mr3();
-        return this;
+        return spacing(MARGIN, SIDE_ALL, 3, ALL);
     }
 
     /**
@@ -2899,10 +2442,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper mt4() {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginTop(4);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_TOP, 4, ALL);
     }
 
     /**
@@ -2911,10 +2451,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper mb4() {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginBottom(4);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_BOTTOM, 4, ALL);
     }
 
     /**
@@ -2923,10 +2460,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper ml4() {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginLeft(4);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_LEFT, 4, ALL);
     }
 
     /**
@@ -2935,10 +2469,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper mr4() {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginRight(4);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_RIGHT, 4, ALL);
     }
 
     /**
@@ -2947,9 +2478,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper mx4() {
-        ml4();
-        mr4();
-        return this;
+        return spacing(MARGIN, SIDE_X, 4, ALL);
     }
 
     /**
@@ -2958,9 +2487,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper my4() {
-        mt4();
-        mb4();
-        return this;
+        return spacing(MARGIN, SIDE_Y, 4, ALL);
     }
 
     /**
@@ -2969,11 +2496,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper ma4() {
-        mt4();
-        mb4();
-        ml4();
-        mr4();
-        return this;
+        return spacing(MARGIN, SIDE_ALL, 4, ALL);
     }
 
     /**
@@ -2982,10 +2505,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper mt5() {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginTop(5);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_TOP, 5, ALL);
     }
 
     /**
@@ -2994,10 +2514,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper mb5() {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginBottom(5);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_BOTTOM, 5, ALL);
     }
 
     /**
@@ -3006,10 +2523,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper ml5() {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginLeft(5);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_LEFT, 5, ALL);
     }
 
     /**
@@ -3018,10 +2532,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper mr5() {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginRight(5);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_RIGHT, 5, ALL);
     }
 
     /**
@@ -3030,9 +2541,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper mx5() {
-        ml5();
-        mr5();
-        return this;
+        return spacing(MARGIN, SIDE_X, 5, ALL);
     }
 
     /**
@@ -3041,9 +2550,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper my5() {
-        mt5();
-        mb5();
-        return this;
+        return spacing(MARGIN, SIDE_Y, 5, ALL);
     }
 
     /**
@@ -3052,11 +2559,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper ma5() {
-        mt5();
-        mb5();
-        ml5();
-        mr5();
-        return this;
+        return spacing(MARGIN, SIDE_ALL, 5, ALL);
     }
 
     /**
@@ -3065,10 +2568,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper mt6() {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginTop(6);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_TOP, 6, ALL);
     }
 
     /**
@@ -3077,10 +2577,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper mb6() {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginBottom(6);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_BOTTOM, 6, ALL);
     }
 
     /**
@@ -3089,10 +2586,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper ml6() {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginLeft(6);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_LEFT, 6, ALL);
     }
 
     /**
@@ -3101,10 +2595,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper mr6() {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginRight(6);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_RIGHT, 6, ALL);
     }
 
     /**
@@ -3113,9 +2604,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper mx6() {
-        ml6();
-        mr6();
-        return this;
+        return spacing(MARGIN, SIDE_X, 6, ALL);
     }
 
     /**
@@ -3124,9 +2613,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper my6() {
-        mt6();
-        mb6();
-        return this;
+        return spacing(MARGIN, SIDE_Y, 6, ALL);
     }
 
     /**
@@ -3135,11 +2622,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper ma6() {
-        mt6();
-        mb6();
-        ml6();
-        mr6();
-        return this;
+        return spacing(MARGIN, SIDE_ALL, 6, ALL);
     }
 
     /**
@@ -3149,10 +2632,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mt(int size) {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginTop(size);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_TOP, size, ALL);
     }
 
     /**
@@ -3162,10 +2642,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mt(float size) {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginTop(size);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_TOP, size, ALL);
     }
 
     /**
@@ -3175,10 +2652,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mb(int size) {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginBottom(size);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_BOTTOM, size, ALL);
     }
 
     /**
@@ -3188,10 +2662,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mb(float size) {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginBottom(size);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_BOTTOM, size, ALL);
     }
 
     /**
@@ -3201,10 +2672,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper ml(int size) {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginLeft(size);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_LEFT, size, ALL);
     }
 
     /**
@@ -3214,10 +2682,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper ml(float size) {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginLeft(size);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_LEFT, size, ALL);
     }
 
     /**
@@ -3227,10 +2692,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mr(int size) {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginRight(size);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_RIGHT, size, ALL);
     }
 
     /**
@@ -3240,10 +2702,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mr(float size) {
-        for (Component c : cmps) {
-            c.getAllStyles().setMarginRight(size);
-        }
-        return this;
+        return spacing(MARGIN, SIDE_RIGHT, size, ALL);
     }
 
     /**
@@ -3253,9 +2712,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mx(int size) {
-        ml(size);
-        mr(size);
-        return this;
+        return spacing(MARGIN, SIDE_X, size, ALL);
     }
 
     /**
@@ -3265,9 +2722,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper mx(float size) {
-        ml(size);
-        mr(size);
-        return this;
+        return spacing(MARGIN, SIDE_X, size, ALL);
     }
 
     /**
@@ -3277,9 +2732,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper my(int size) {
-        mt(size);
-        mb(size);
-        return this;
+        return spacing(MARGIN, SIDE_Y, size, ALL);
     }
 
     /**
@@ -3289,9 +2742,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper my(float size) {
-        mt(size);
-        mb(size);
-        return this;
+        return spacing(MARGIN, SIDE_Y, size, ALL);
     }
 
     /**
@@ -3301,11 +2752,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper ma(int size) {
-        mt(size);
-        mb(size);
-        ml(size);
-        mr(size);
-        return this;
+        return spacing(MARGIN, SIDE_ALL, size, ALL);
     }
 
     /**
@@ -3315,11 +2762,7 @@ public class Helper {
      * @return the component with the applied styling to unselected state
      */
     public Helper ma(float size) {
-        mt(size);
-        mb(size);
-        ml(size);
-        mr(size);
-        return this;
+        return spacing(MARGIN, SIDE_ALL, size, ALL);
     }
 
     /**
@@ -3328,10 +2771,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pt0() {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingTop(0);
-        }
-        return this;
+        return spacing(PADDING, SIDE_TOP, 0, ALL);
     }
 
     /**
@@ -3340,10 +2780,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pb0() {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingBottom(0);
-        }
-        return this;
+        return spacing(PADDING, SIDE_BOTTOM, 0, ALL);
     }
 
     /**
@@ -3352,10 +2789,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pl0() {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingLeft(0);
-        }
-        return this;
+        return spacing(PADDING, SIDE_LEFT, 0, ALL);
     }
 
     /**
@@ -3364,10 +2798,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pr0() {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingRight(0);
-        }
-        return this;
+        return spacing(PADDING, SIDE_RIGHT, 0, ALL);
     }
 
     /**
@@ -3376,9 +2807,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper px0() {
-        pl0();
-        pr0();
-        return this;
+        return spacing(PADDING, SIDE_X, 0, ALL);
     }
 
     /**
@@ -3387,9 +2816,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper py0() {
-        pt0();
-        pb0();
-        return this;
+        return spacing(PADDING, SIDE_Y, 0, ALL);
     }
 
     /**
@@ -3398,11 +2825,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pa0() {
-        pt0();
-        pb0();
-        pl0();
-        pr0();
-        return this;
+        return spacing(PADDING, SIDE_ALL, 0, ALL);
     }
 
     /**
@@ -3411,10 +2834,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pt1() {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingTop(1);
-        }
-        return this;
+        return spacing(PADDING, SIDE_TOP, 1, ALL);
     }
 
     /**
@@ -3423,10 +2843,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pb1() {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingBottom(1);
-        }
-        return this;
+        return spacing(PADDING, SIDE_BOTTOM, 1, ALL);
     }
 
     /**
@@ -3435,10 +2852,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pl1() {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingLeft(1);
-        }
-        return this;
+        return spacing(PADDING, SIDE_LEFT, 1, ALL);
     }
 
     /**
@@ -3447,10 +2861,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pr1() {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingRight(1);
-        }
-        return this;
+        return spacing(PADDING, SIDE_RIGHT, 1, ALL);
     }
 
     /**
@@ -3459,9 +2870,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper px1() {
-        pl1();
-        pr1();
-        return this;
+        return spacing(PADDING, SIDE_X, 1, ALL);
     }
 
     /**
@@ -3470,9 +2879,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper py1() {
-        pt1();
-        pb1();
-        return this;
+        return spacing(PADDING, SIDE_Y, 1, ALL);
     }
 
     /**
@@ -3481,11 +2888,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pa1() {
-        pt1();
-        pb1();
-        pl1();
-        pr1();
-        return this;
+        return spacing(PADDING, SIDE_ALL, 1, ALL);
     }
 
     /**
@@ -3494,10 +2897,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pt2() {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingTop(2);
-        }
-        return this;
+        return spacing(PADDING, SIDE_TOP, 2, ALL);
     }
 
     /**
@@ -3506,10 +2906,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pb2() {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingBottom(2);
-        }
-        return this;
+        return spacing(PADDING, SIDE_BOTTOM, 2, ALL);
     }
 
     /**
@@ -3518,10 +2915,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pl2() {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingLeft(2);
-        }
-        return this;
+        return spacing(PADDING, SIDE_LEFT, 2, ALL);
     }
 
     /**
@@ -3530,10 +2924,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pr2() {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingRight(2);
-        }
-        return this;
+        return spacing(PADDING, SIDE_RIGHT, 2, ALL);
     }
 
     /**
@@ -3542,9 +2933,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper px2() {
-        pl2();
-        pr2();
-        return this;
+        return spacing(PADDING, SIDE_X, 2, ALL);
     }
 
     /**
@@ -3553,9 +2942,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper py2() {
-        pt2();
-        pb2();
-        return this;
+        return spacing(PADDING, SIDE_Y, 2, ALL);
     }
 
     /**
@@ -3564,11 +2951,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pa2() {
-        pt2();
-        pb2();
-        pl2();
-        pr2();
-        return this;
+        return spacing(PADDING, SIDE_ALL, 2, ALL);
     }
 
     /**
@@ -3577,10 +2960,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pt3() {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingTop(3);
-        }
-        return this;
+        return spacing(PADDING, SIDE_TOP, 3, ALL);
     }
 
     /**
@@ -3589,10 +2969,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pb3() {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingBottom(3);
-        }
-        return this;
+        return spacing(PADDING, SIDE_BOTTOM, 3, ALL);
     }
 
     /**
@@ -3601,10 +2978,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pl3() {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingLeft(3);
-        }
-        return this;
+        return spacing(PADDING, SIDE_LEFT, 3, ALL);
     }
 
     /**
@@ -3613,10 +2987,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pr3() {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingRight(3);
-        }
-        return this;
+        return spacing(PADDING, SIDE_RIGHT, 3, ALL);
     }
 
     /**
@@ -3625,9 +2996,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper px3() {
-        pl3();
-        pr3();
-        return this;
+        return spacing(PADDING, SIDE_X, 3, ALL);
     }
 
     /**
@@ -3636,9 +3005,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper py3() {
-        pt3();
-        pb3();
-        return this;
+        return spacing(PADDING, SIDE_Y, 3, ALL);
     }
 
     /**
@@ -3647,11 +3014,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pa3() {
-        pt3();
-        pb3();
-        pl3();
-        pr3();
-        return this;
+        return spacing(PADDING, SIDE_ALL, 3, ALL);
     }
 
     /**
@@ -3660,10 +3023,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pt4() {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingTop(4);
-        }
-        return this;
+        return spacing(PADDING, SIDE_TOP, 4, ALL);
     }
 
     /**
@@ -3672,10 +3032,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pb4() {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingBottom(4);
-        }
-        return this;
+        return spacing(PADDING, SIDE_BOTTOM, 4, ALL);
     }
 
     /**
@@ -3684,10 +3041,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pl4() {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingLeft(4);
-        }
-        return this;
+        return spacing(PADDING, SIDE_LEFT, 4, ALL);
     }
 
     /**
@@ -3696,10 +3050,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pr4() {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingRight(4);
-        }
-        return this;
+        return spacing(PADDING, SIDE_RIGHT, 4, ALL);
     }
 
     /**
@@ -3708,9 +3059,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper px4() {
-        pl4();
-        pr4();
-        return this;
+        return spacing(PADDING, SIDE_X, 4, ALL);
     }
 
     /**
@@ -3719,9 +3068,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper py4() {
-        pt4();
-        pb4();
-        return this;
+        return spacing(PADDING, SIDE_Y, 4, ALL);
     }
 
     /**
@@ -3730,11 +3077,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pa4() {
-        pt4();
-        pb4();
-        pl4();
-        pr4();
-        return this;
+        return spacing(PADDING, SIDE_ALL, 4, ALL);
     }
 
     /**
@@ -3743,10 +3086,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pt5() {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingTop(5);
-        }
-        return this;
+        return spacing(PADDING, SIDE_TOP, 5, ALL);
     }
 
     /**
@@ -3755,10 +3095,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pb5() {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingBottom(5);
-        }
-        return this;
+        return spacing(PADDING, SIDE_BOTTOM, 5, ALL);
     }
 
     /**
@@ -3767,10 +3104,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pl5() {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingLeft(5);
-        }
-        return this;
+        return spacing(PADDING, SIDE_LEFT, 5, ALL);
     }
 
     /**
@@ -3779,10 +3113,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pr5() {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingRight(5);
-        }
-        return this;
+        return spacing(PADDING, SIDE_RIGHT, 5, ALL);
     }
 
     /**
@@ -3791,9 +3122,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper px5() {
-        pl5();
-        pr5();
-        return this;
+        return spacing(PADDING, SIDE_X, 5, ALL);
     }
 
     /**
@@ -3802,9 +3131,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper py5() {
-        pt5();
-        pb5();
-        return this;
+        return spacing(PADDING, SIDE_Y, 5, ALL);
     }
 
     /**
@@ -3813,11 +3140,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pa5() {
-        pt5();
-        pb5();
-        pl5();
-        pr5();
-        return this;
+        return spacing(PADDING, SIDE_ALL, 5, ALL);
     }
 
     /**
@@ -3826,10 +3149,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pt6() {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingTop(6);
-        }
-        return this;
+        return spacing(PADDING, SIDE_TOP, 6, ALL);
     }
 
     /**
@@ -3838,10 +3158,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pb6() {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingBottom(6);
-        }
-        return this;
+        return spacing(PADDING, SIDE_BOTTOM, 6, ALL);
     }
 
     /**
@@ -3850,10 +3167,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pl6() {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingLeft(6);
-        }
-        return this;
+        return spacing(PADDING, SIDE_LEFT, 6, ALL);
     }
 
     /**
@@ -3862,10 +3176,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pr6() {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingRight(6);
-        }
-        return this;
+        return spacing(PADDING, SIDE_RIGHT, 6, ALL);
     }
 
     /**
@@ -3874,9 +3185,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper px6() {
-        pl6();
-        pr6();
-        return this;
+        return spacing(PADDING, SIDE_X, 6, ALL);
     }
 
     /**
@@ -3885,9 +3194,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper py6() {
-        pt6();
-        pb6();
-        return this;
+        return spacing(PADDING, SIDE_Y, 6, ALL);
     }
 
     /**
@@ -3896,11 +3203,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pa6() {
-        pt6();
-        pb6();
-        pl6();
-        pr6();
-        return this;
+        return spacing(PADDING, SIDE_ALL, 6, ALL);
     }
 
     /**
@@ -3910,10 +3213,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pt(int size) {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingTop(size);
-        }
-        return this;
+        return spacing(PADDING, SIDE_TOP, size, ALL);
     }
 
     /**
@@ -3923,10 +3223,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pt(float size) {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingTop(size);
-        }
-        return this;
+        return spacing(PADDING, SIDE_TOP, size, ALL);
     }
 
     /**
@@ -3936,10 +3233,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pb(int size) {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingBottom(size);
-        }
-        return this;
+        return spacing(PADDING, SIDE_BOTTOM, size, ALL);
     }
 
     /**
@@ -3949,10 +3243,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pb(float size) {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingBottom(size);
-        }
-        return this;
+        return spacing(PADDING, SIDE_BOTTOM, size, ALL);
     }
 
     /**
@@ -3962,10 +3253,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pl(int size) {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingLeft(size);
-        }
-        return this;
+        return spacing(PADDING, SIDE_LEFT, size, ALL);
     }
 
     /**
@@ -3975,10 +3263,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pl(float size) {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingLeft(size);
-        }
-        return this;
+        return spacing(PADDING, SIDE_LEFT, size, ALL);
     }
 
     /**
@@ -3988,10 +3273,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pr(int size) {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingRight(size);
-        }
-        return this;
+        return spacing(PADDING, SIDE_RIGHT, size, ALL);
     }
 
     /**
@@ -4001,10 +3283,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pr(float size) {
-        for (Component c : cmps) {
-            c.getAllStyles().setPaddingRight(size);
-        }
-        return this;
+        return spacing(PADDING, SIDE_RIGHT, size, ALL);
     }
 
     /**
@@ -4014,9 +3293,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper px(int size) {
-        pl(size);
-        pr(size);
-        return this;
+        return spacing(PADDING, SIDE_X, size, ALL);
     }
 
     /**
@@ -4026,9 +3303,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper px(float size) {
-        pl(size);
-        pr(size);
-        return this;
+        return spacing(PADDING, SIDE_X, size, ALL);
     }
 
     /**
@@ -4038,9 +3313,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper py(int size) {
-        pt(size);
-        pb(size);
-        return this;
+        return spacing(PADDING, SIDE_Y, size, ALL);
     }
 
     /**
@@ -4050,9 +3323,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper py(float size) {
-        pt(size);
-        pb(size);
-        return this;
+        return spacing(PADDING, SIDE_Y, size, ALL);
     }
 
     /**
@@ -4062,11 +3333,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pa(int size) {
-        pt(size);
-        pb(size);
-        pl(size);
-        pr(size);
-        return this;
+        return spacing(PADDING, SIDE_ALL, size, ALL);
     }
 
     /**
@@ -4076,11 +3343,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper pa(float size) {
-        pt(size);
-        pb(size);
-        pl(size);
-        pr(size);
-        return this;
+        return spacing(PADDING, SIDE_ALL, size, ALL);
     }
 
     /**
@@ -4090,10 +3353,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textColor(int color) {
-        for (Component c : cmps) {
-            c.getAllStyles().setFgColor(color);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, color, ALL);
     }
 
     /**
@@ -4103,10 +3363,7 @@ public class Helper {
      * @return the component with the applied styling to pressed state
      */
     public Helper textColor___(int color) {
-        for (Component c : cmps) {
-            c.getPressedStyle().setFgColor(color);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, color, PRESSED);
     }
 
     /**
@@ -4116,10 +3373,7 @@ public class Helper {
      * @return the component with the applied styling to disabled state
      */
     public Helper textColor____(int color) {
-        for (Component c : cmps) {
-            c.getDisabledStyle().setFgColor(color);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, color, DISABLED);
     }
 
     /**
@@ -4128,10 +3382,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textMuted() {
-        for (Component c : cmps) {
-            c.getAllStyles().setFgColor(0x818a91);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x818a91, ALL);
     }
 
     /**
@@ -4140,10 +3391,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textPrimary() {
-        for (Component c : cmps) {
-            c.getAllStyles().setFgColor(0x145F80);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x145F80, ALL);
     }
 
     /**
@@ -4152,10 +3400,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textSuccess() {
-        for (Component c : cmps) {
-            c.getAllStyles().setFgColor(0x5cb85c);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x5cb85c, ALL);
     }
 
     /**
@@ -4164,10 +3409,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textInfo() {
-        for (Component c : cmps) {
-            c.getAllStyles().setFgColor(0x5bc0de);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x5bc0de, ALL);
     }
 
     /**
@@ -4176,10 +3418,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textWarning() {
-        for (Component c : cmps) {
-            c.getAllStyles().setFgColor(0xf0ad4e);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0xf0ad4e, ALL);
     }
 
     /**
@@ -4188,10 +3427,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textDanger() {
-        for (Component c : cmps) {
-            c.getAllStyles().setFgColor(0xd9534f);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0xd9534f, ALL);
     }
 
     /**
@@ -4200,10 +3436,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textRed() {
-        for (Component c : cmps) {
-            c.getAllStyles().setFgColor(0xf44336);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0xf44336, ALL);
     }
 
     /**
@@ -4212,10 +3445,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textPink() {
-        for (Component c : cmps) {
-            c.getAllStyles().setFgColor(0xe91e63);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0xe91e63, ALL);
     }
 
     /**
@@ -4224,10 +3454,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textPurple() {
-        for (Component c : cmps) {
-            c.getAllStyles().setFgColor(0x9c27b0);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x9c27b0, ALL);
     }
 
     /**
@@ -4236,10 +3463,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textDeepPurple() {
-        for (Component c : cmps) {
-            c.getAllStyles().setFgColor(0x673ab7);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x673ab7, ALL);
     }
 
     /**
@@ -4248,10 +3472,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textIndigo() {
-        for (Component c : cmps) {
-            c.getAllStyles().setFgColor(0x3f51b5);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x3f51b5, ALL);
     }
 
     /**
@@ -4260,10 +3481,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textBlue() {
-        for (Component c : cmps) {
-            c.getAllStyles().setFgColor(0x2196F3);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x2196F3, ALL);
     }
 
     /**
@@ -4272,10 +3490,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textLightBlue() {
-        for (Component c : cmps) {
-            c.getAllStyles().setFgColor(0x03a9f4);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x03a9f4, ALL);
     }
 
     /**
@@ -4284,10 +3499,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textCyan() {
-        for (Component c : cmps) {
-            c.getAllStyles().setFgColor(0x00bcd4);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x00bcd4, ALL);
     }
 
     /**
@@ -4296,10 +3508,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textTeal() {
-        for (Component c : cmps) {
-            c.getAllStyles().setFgColor(0x009688);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x009688, ALL);
     }
 
     /**
@@ -4308,10 +3517,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textGreen() {
-        for (Component c : cmps) {
-            c.getAllStyles().setFgColor(0x4caf50);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x4caf50, ALL);
     }
 
     /**
@@ -4320,10 +3526,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textLightGreen() {
-        for (Component c : cmps) {
-            c.getAllStyles().setFgColor(0x8bc34a);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x8bc34a, ALL);
     }
 
     /**
@@ -4332,10 +3535,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textLime() {
-        for (Component c : cmps) {
-            c.getAllStyles().setFgColor(0xcddc39);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0xcddc39, ALL);
     }
 
     /**
@@ -4344,10 +3544,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textYellow() {
-        for (Component c : cmps) {
-            c.getAllStyles().setFgColor(0xffeb3b);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0xffeb3b, ALL);
     }
 
     /**
@@ -4356,10 +3553,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textAmber() {
-        for (Component c : cmps) {
-            c.getAllStyles().setFgColor(0xffc107);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0xffc107, ALL);
     }
 
     /**
@@ -4368,10 +3562,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textOrange() {
-        for (Component c : cmps) {
-            c.getAllStyles().setFgColor(0xff9800);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0xff9800, ALL);
     }
 
     /**
@@ -4380,10 +3571,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textDeepOrange() {
-        for (Component c : cmps) {
-            c.getAllStyles().setFgColor(0xff5722);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0xff5722, ALL);
     }
 
     /**
@@ -4392,10 +3580,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textBrown() {
-        for (Component c : cmps) {
-            c.getAllStyles().setFgColor(0x795548);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x795548, ALL);
     }
 
     /**
@@ -4404,10 +3589,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textGrey() {
-        for (Component c : cmps) {
-            c.getAllStyles().setFgColor(0x9e9e9e);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x9e9e9e, ALL);
     }
 
     /**
@@ -4416,10 +3598,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textBlueGrey() {
-        for (Component c : cmps) {
-            c.getAllStyles().setFgColor(0x607d8b);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x607d8b, ALL);
     }
 
     /**
@@ -4428,10 +3607,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textBlack() {
-        for (Component c : cmps) {
-            c.getAllStyles().setFgColor(0x000000);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0x000000, ALL);
     }
 
     /**
@@ -4440,25 +3616,95 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textWhite() {
-        for (Component c : cmps) {
-            c.getAllStyles().setFgColor(0xffffff);
-        }
-        return this;
+        return write(StyleSpec.FG_COLOR, 0xffffff, ALL);
     }
 
     /**
-     * Apply a custom background image that fills the background
+     * Apply a custom background image that fills the background. The image is
+     * painted from a copy scaled to the size of the component which is kept in
+     * a shared cache, see {@link #setBgImageCacheBudget(int)}. The style only
+     * keeps a copy reduced to the first size painted, pass an
+     * {@link EncodedImage} to render larger sizes at full quality later.
      *
      * @param image Image to apply to background
      * @return the component with the applied styling to all states
      */
     public Helper bgImage(Image image) {
-        for (Component c : cmps) {
-            c.getAllStyles().setBgTransparency(0);
-            c.getAllStyles().setBackgroundType(Style.BACKGROUND_IMAGE_SCALED_FILL);
-            c.getAllStyles().setBgImage(image);
-        }
-        return this;
+        return bgImage((Object) image);
+    }
+
+    /**
+     * Apply a custom background image that fills the background. The image is
+     * only decoded to render a copy scaled to the size of the component, the
+     * style doesn't hold the full resolution image.
+     *
+     * @param image EncodedImage to apply to background
+     * @return the component with the applied styling to all states
+     */
+    public Helper bgImage(EncodedImage image) {
+        return bgImage((Object) image);
+    }
+
+    /**
+     * Apply a custom background image that fills the background from the
+     * bytes of an encoded image, e.g. a PNG or a JPEG. The bytes are only
+     * decoded to render a copy scaled to the size of the component.
+     *
+     * @param data the bytes of the encoded image
+     * @return the component with the applied styling to all states
+     */
+    public Helper bgImage(byte[] data) {
+        return bgImage((Object) data);
+    }
+
+    /**
+     * Apply a background image read from {@code Storage} that fills the
+     * background. The image is read and decoded off the EDT, the background is
+     * filled with the placeholder color until the image is ready.<br><br>
+     * <strong>Example:</strong><br>
+     * <code>new Helper(card).bgImageFromStorage("cover.jpg", 0xeeeeee)</code>
+     *
+     * @param name the name of the storage entry
+     * @param placeholder the color painted until the image is ready
+     * @return the component with the applied styling to all states
+     */
+    public Helper bgImageFromStorage(String name, int placeholder) {
+        return bgImage(new AsyncBackground(AsyncBackground.STORAGE, name, placeholder));
+    }
+
+    /**
+     * Apply a background image read from {@code FileSystemStorage} that fills
+     * the background, see {@link #bgImageFromStorage(String, int)}
+     *
+     * @param path the path of the file
+     * @param placeholder the color painted until the image is ready
+     * @return the component with the applied styling to all states
+     */
+    public Helper bgImageFromFile(String path, int placeholder) {
+        return bgImage(new AsyncBackground(AsyncBackground.FILE, path, placeholder));
+    }
+
+    /**
+     * Apply a background image read from a stream that fills the background,
+     * e.g. a resource from {@code CN.getResourceAsStream()}. The stream is
+     * read and closed off the EDT, the background is filled with the
+     * placeholder color until the image is ready.
+     *
+     * @param in the stream of the encoded image
+     * @param placeholder the color painted until the image is ready
+     * @return the component with the applied styling to all states
+     */
+    public Helper bgImage(InputStream in, int placeholder) {
+        return bgImage(new AsyncBackground(AsyncBackground.STREAM, in, placeholder));
+    }
+
+    private Helper bgImage(Object source) {
+        return bgImage(new ScaledBackground(source));
+    }
+
+    private Helper bgImage(Painter painter) {
+        write(StyleSpec.BG_TRANSPARENCY, 0, ALL);
+        return write(StyleSpec.BG_PAINTER, painter, ALL);
     }
 
     /**
@@ -4468,12 +3714,10 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper opacity(int opacity) {
-        for (Component c : cmps) {
-            if (opacity >= 0 && opacity <= 255) {
-                c.getAllStyles().setOpacity(opacity);
-            }
+        if (opacity < 0 || opacity > 255) {
+            return this;
         }
-        return this;
+        return write(StyleSpec.OPACITY, opacity, ALL);
     }
 
     /**
@@ -4483,11 +3727,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper bgColor(int color) {
-        for (Component c : cmps) {
-            c.getAllStyles().setBgTransparency(this.bg_trans);
-            c.getAllStyles().setBgColor(color);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, color, ALL);
     }
 
     /**
@@ -4496,11 +3736,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper bgMuted() {
-        for (Component c : cmps) {
-            c.getAllStyles().setBgTransparency(this.bg_trans);
-            c.getAllStyles().setBgColor(0x818a91);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x818a91, ALL);
     }
 
     /**
@@ -4509,11 +3745,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper bgPrimary() {
-        for (Component c : cmps) {
-            c.getAllStyles().setBgTransparency(this.bg_trans);
-            c.getAllStyles().setBgColor(0x145F80);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x145F80, ALL);
     }
 
     /**
@@ -4522,11 +3754,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper bgSuccess() {
-        for (Component c : cmps) {
-            c.getAllStyles().setBgTransparency(this.bg_trans);
-            c.getAllStyles().setBgColor(0x5cb85c);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x5cb85c, ALL);
     }
 
     /**
@@ -4535,11 +3763,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper bgInfo() {
-        for (Component c : cmps) {
-            c.getAllStyles().setBgTransparency(this.bg_trans);
-            c.getAllStyles().setBgColor(0x5bc0de);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x5bc0de, ALL);
     }
 
     /**
@@ -4548,11 +3772,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper bgWarning() {
-        for (Component c : cmps) {
-            c.getAllStyles().setBgTransparency(this.bg_trans);
-            c.getAllStyles().setBgColor(0xf0ad4e);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0xf0ad4e, ALL);
     }
 
     /**
@@ -4561,11 +3781,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper bgDanger() {
-        for (Component c : cmps) {
-            c.getAllStyles().setBgTransparency(this.bg_trans);
-            c.getAllStyles().setBgColor(0xd9534f);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0xd9534f, ALL);
     }
 
     /**
@@ -4574,11 +3790,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper bgRed() {
-        for (Component c : cmps) {
-            c.getAllStyles().setBgTransparency(this.bg_trans);
-            c.getAllStyles().setBgColor(0xf44336);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0xf44336, ALL);
     }
 
     /**
@@ -4587,11 +3799,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper bgPink() {
-        for (Component c : cmps) {
-            c.getAllStyles().setBgTransparency(this.bg_trans);
-            c.getAllStyles().setBgColor(0xe91e63);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0xe91e63, ALL);
     }
 
     /**
@@ -4600,11 +3808,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper bgPurple() {
-        for (Component c : cmps) {
-            c.getAllStyles().setBgTransparency(this.bg_trans);
-            c.getAllStyles().setBgColor(0x9c27b0);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x9c27b0, ALL);
     }
 
     /**
@@ -4613,11 +3817,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper bgDeepPurple() {
-        for (Component c : cmps) {
-            c.getAllStyles().setBgTransparency(this.bg_trans);
-            c.getAllStyles().setBgColor(0x673ab7);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x673ab7, ALL);
     }
 
     /**
@@ -4626,11 +3826,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper bgIndigo() {
-        for (Component c : cmps) {
-            c.getAllStyles().setBgTransparency(this.bg_trans);
-            c.getAllStyles().setBgColor(0x3f51b5);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x3f51b5, ALL);
     }
 
     /**
@@ -4639,11 +3835,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper bgBlue() {
-        for (Component c : cmps) {
-            c.getAllStyles().setBgTransparency(this.bg_trans);
-            c.getAllStyles().setBgColor(0x2196F3);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x2196F3, ALL);
     }
 
     /**
@@ -4652,11 +3844,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper bgLightBlue() {
-        for (Component c : cmps) {
-            c.getAllStyles().setBgTransparency(this.bg_trans);
-            c.getAllStyles().setBgColor(0x03a9f4);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x03a9f4, ALL);
     }
 
     /**
@@ -4665,11 +3853,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper bgCyan() {
-        for (Component c : cmps) {
-            c.getAllStyles().setBgTransparency(this.bg_trans);
-            c.getAllStyles().setBgColor(0x00bcd4);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x00bcd4, ALL);
     }
 
     /**
@@ -4678,11 +3862,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper bgTeal() {
-        for (Component c : cmps) {
-            c.getAllStyles().setBgTransparency(this.bg_trans);
-            c.getAllStyles().setBgColor(0x009688);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x009688, ALL);
     }
 
     /**
@@ -4691,11 +3871,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper bgGreen() {
-        for (Component c : cmps) {
-            c.getAllStyles().setBgTransparency(this.bg_trans);
-            c.getAllStyles().setBgColor(0x4caf50);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x4caf50, ALL);
     }
 
     /**
@@ -4704,11 +3880,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper bgLightGreen() {
-        for (Component c : cmps) {
-            c.getAllStyles().setBgTransparency(this.bg_trans);
-            c.getAllStyles().setBgColor(0x8bc34a);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x8bc34a, ALL);
     }
 
     /**
@@ -4717,11 +3889,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper bgLime() {
-        for (Component c : cmps) {
-            c.getAllStyles().setBgTransparency(this.bg_trans);
-            c.getAllStyles().setBgColor(0xcddc39);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0xcddc39, ALL);
     }
 
     /**
@@ -4730,11 +3898,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper bgYellow() {
-        for (Component c : cmps) {
-            c.getAllStyles().setBgTransparency(this.bg_trans);
-            c.getAllStyles().setBgColor(0xffeb3b);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0xffeb3b, ALL);
     }
 
     /**
@@ -4743,11 +3907,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper bgAmber() {
-        for (Component c : cmps) {
-            c.getAllStyles().setBgTransparency(this.bg_trans);
-            c.getAllStyles().setBgColor(0xffc107);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0xffc107, ALL);
     }
 
     /**
@@ -4756,11 +3916,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper bgOrange() {
-        for (Component c : cmps) {
-            c.getAllStyles().setBgTransparency(this.bg_trans);
-            c.getAllStyles().setBgColor(0xff9800);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0xff9800, ALL);
     }
 
     /**
@@ -4769,11 +3925,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper bgDeepOrange() {
-        for (Component c : cmps) {
-            c.getAllStyles().setBgTransparency(this.bg_trans);
-            c.getAllStyles().setBgColor(0xff5722);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0xff5722, ALL);
     }
 
     /**
@@ -4782,11 +3934,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper bgBrown() {
-        for (Component c : cmps) {
-            c.getAllStyles().setBgTransparency(this.bg_trans);
-            c.getAllStyles().setBgColor(0x795548);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x795548, ALL);
     }
 
     /**
@@ -4795,11 +3943,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper bgGrey() {
-        for (Component c : cmps) {
-            c.getAllStyles().setBgTransparency(this.bg_trans);
-            c.getAllStyles().setBgColor(0x9e9e9e);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x9e9e9e, ALL);
     }
 
     /**
@@ -4808,11 +3952,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper bgLightGrey() {
-        for (Component c : cmps) {
-            c.getAllStyles().setBgTransparency(this.bg_trans);
-            c.getAllStyles().setBgColor(0xebebeb);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0xebebeb, ALL);
     }
 
     /**
@@ -4821,11 +3961,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper bgBlueGrey() {
-        for (Component c : cmps) {
-            c.getAllStyles().setBgTransparency(this.bg_trans);
-            c.getAllStyles().setBgColor(0x607d8b);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x607d8b, ALL);
     }
 
     /**
@@ -4834,11 +3970,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper bgBlack() {
-        for (Component c : cmps) {
-            c.getAllStyles().setBgTransparency(this.bg_trans);
-            c.getAllStyles().setBgColor(0x000000);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0x000000, ALL);
     }
 
     /**
@@ -4847,11 +3979,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper bgWhite() {
-        for (Component c : cmps) {
-            c.getAllStyles().setBgTransparency(this.bg_trans);
-            c.getAllStyles().setBgColor(0xffffff);
-        }
-        return this;
+        return write(StyleSpec.BG_COLOR, 0xffffff, ALL);
     }
 
     /**
@@ -4860,12 +3988,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textSmall() {
-        for (Component c : cmps) {
-            final Font font = Font.createTrueTypeFont("native:MainRegular", "native:MainRegular");
-            font.derive(Font.SIZE_SMALL, Font.STYLE_PLAIN);
-            c.getAllStyles().setFont(font);
-        }
-        return this;
+        return write(StyleSpec.FONT, FontCache.get("native:MainRegular", Font.SIZE_SMALL, Font.STYLE_PLAIN), ALL);
     }
 
     /**
@@ -4874,12 +3997,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textMedium() {
-        for (Component c : cmps) {
-            final Font font = Font.createTrueTypeFont("native:MainRegular", "native:MainRegular");
-            font.derive(Font.SIZE_MEDIUM, Font.STYLE_PLAIN);
-            c.getAllStyles().setFont(font);
-        }
-        return this;
+        return write(StyleSpec.FONT, FontCache.get("native:MainRegular", Font.SIZE_MEDIUM, Font.STYLE_PLAIN), ALL);
     }
 
     /**
@@ -4888,12 +4006,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textLarge() {
-        for (Component c : cmps) {
-            final Font font = Font.createTrueTypeFont("native:MainRegular", "native:MainRegular");
-            font.derive(Font.SIZE_LARGE, Font.STYLE_PLAIN);
-            c.getAllStyles().setFont(font);
-        }
-        return this;
+        return write(StyleSpec.FONT, FontCache.get("native:MainRegular", Font.SIZE_LARGE, Font.STYLE_PLAIN), ALL);
     }
 
     /**
@@ -4902,12 +4015,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textBold() {
-        for (Component c : cmps) {
-            final Font font = Font.createTrueTypeFont("native:MainBold", "native:MainBold");
-            font.derive(Font.SIZE_MEDIUM, Font.STYLE_BOLD);
-            c.getAllStyles().setFont(font);
-        }
-        return this;
+        return write(StyleSpec.FONT, FontCache.get("native:MainBold", Font.SIZE_MEDIUM, Font.STYLE_BOLD), ALL);
     }
 
     /**
@@ -4916,12 +4024,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textLight() {
-        for (Component c : cmps) {
-            final Font font = Font.createTrueTypeFont("native:MainLight", "native:MainLight");
-            font.derive(Font.SIZE_MEDIUM, Font.STYLE_PLAIN);
-            c.getAllStyles().setFont(font);
-        }
-        return this;
+        return write(StyleSpec.FONT, FontCache.get("native:MainLight", Font.SIZE_MEDIUM, Font.STYLE_PLAIN), ALL);
     }
 
     /**
@@ -4930,12 +4033,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textItalic() {
-        for (Component c : cmps) {
-            final Font font = Font.createTrueTypeFont("native:ItalicRegular", "native:ItalicRegular");
-            font.derive(Font.SIZE_MEDIUM, Font.STYLE_ITALIC);
-            c.getAllStyles().setFont(font);
-        }
-        return this;
+        return write(StyleSpec.FONT, FontCache.get("native:ItalicRegular", Font.SIZE_MEDIUM, Font.STYLE_ITALIC), ALL);
     }
 
     /**
@@ -4944,10 +4042,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textLeft() {
-        for (Component c : cmps) {
-            c.getAllStyles().setAlignment(Component.LEFT);
-        }
-        return this;
+        return write(StyleSpec.ALIGNMENT, Component.LEFT, ALL);
     }
 
     /**
@@ -4956,10 +4051,7 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textRight() {
-        for (Component c : cmps) {
-            c.getAllStyles().setAlignment(Component.RIGHT);
-        }
-        return this;
+        return write(StyleSpec.ALIGNMENT, Component.RIGHT, ALL);
     }
 
     /**
@@ -4968,297 +4060,296 @@ public class Helper {
      * @return the component with the applied styling to all states
      */
     public Helper textCenter() {
-        for (Component c : cmps) {
-            c.getAllStyles().setAlignment(Component.CENTER);
-        }
-        return this;
+        return write(StyleSpec.ALIGNMENT, Component.CENTER, ALL);
     }
 
     public Helper borderTop(int radius, Component... cmps) {
-        for (Component cmp : cmps) {
-            cmp.getUnselectedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getUnselectedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(1).radius(radius));
-            cmp.getSelectedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getSelectedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(1).radius(radius));
-            cmp.getPressedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getPressedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(1).radius(radius));
-            cmp.getDisabledStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getDisabledStyle().getBgColor()).
-                    rectangle(false).roundedPosition(1).radius(radius));
-        }
+        applyBorder(cmps, 1, radius, false, ALL);
         return this;
     }
 
     public Helper borderBottom(int radius) {
-        for (Component cmp : cmps) {
-            cmp.getUnselectedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getUnselectedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(2).radius(radius));
-            cmp.getSelectedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getSelectedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(2).radius(radius));
-            cmp.getPressedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getPressedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(2).radius(radius));
-            cmp.getDisabledStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getDisabledStyle().getBgColor()).
-                    rectangle(false).roundedPosition(2).radius(radius));
-        }
-        return this;
+        return applyBorder(2, radius, false, ALL);
     }
 
     public Helper borderLeft(int radius) {
-        for (Component cmp : cmps) {
-            cmp.getUnselectedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getUnselectedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(3).radius(radius));
-            cmp.getSelectedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getSelectedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(3).radius(radius));
-            cmp.getPressedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getPressedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(3).radius(radius));
-            cmp.getDisabledStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getDisabledStyle().getBgColor()).
-                    rectangle(false).roundedPosition(3).radius(radius));
-        }
-        return this;
+        return applyBorder(3, radius, false, ALL);
     }
 
     public Helper borderRight(int radius) {
-        for (Component cmp : cmps) {
-            cmp.getUnselectedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getUnselectedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(4).radius(radius));
-            cmp.getSelectedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getSelectedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(4).radius(radius));
-            cmp.getPressedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getPressedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(4).radius(radius));
-            cmp.getDisabledStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getDisabledStyle().getBgColor()).
-                    rectangle(false).roundedPosition(4).radius(radius));
-        }
-        return this;
+        return applyBorder(4, radius, false, ALL);
     }
 
     public Helper borderAll(int radius) {
-        for (Component cmp : cmps) {
-            cmp.getUnselectedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getUnselectedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(-1).radius(radius));
-            cmp.getSelectedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getSelectedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(-1).radius(radius));
-            cmp.getPressedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getPressedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(-1).radius(radius));
-            cmp.getDisabledStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getDisabledStyle().getBgColor()).
-                    rectangle(false).roundedPosition(-1).radius(radius));
-        }
-        return this;
+        return applyBorder(-1, radius, false, ALL);
     }
 
     public Helper borderAllWithShadow(int radius) {
-        for (Component cmp : cmps) {
-            cmp.getUnselectedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getUnselectedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(-1).radius(radius).shadowOpacity(20).shadowSpread(CN.convertToPixels(0.2f), false).shadowX(0.4f).shadowY(0.3f));
-            cmp.getSelectedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getSelectedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(-1).radius(radius).shadowOpacity(20).shadowSpread(CN.convertToPixels(0.2f), false).shadowX(0.4f).shadowY(0.3f));
-            cmp.getPressedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getPressedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(-1).radius(radius).shadowOpacity(20).shadowSpread(CN.convertToPixels(0.2f), false).shadowX(0.4f).shadowY(0.3f));
-            cmp.getDisabledStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getDisabledStyle().getBgColor()).
-                    rectangle(false).roundedPosition(-1).radius(radius).shadowOpacity(20).shadowSpread(CN.convertToPixels(0.2f), false).shadowX(0.4f).shadowY(0.3f));
-        }
-        return this;
+        return applyBorder(-1, radius, true, ALL);
     }
 
     public Helper borderTopLeft(int radius) {
-        for (Component cmp : cmps) {
-            cmp.getUnselectedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getUnselectedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(5).radius(radius));
-            cmp.getSelectedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getSelectedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(5).radius(radius));
-            cmp.getPressedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getPressedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(5).radius(radius));
-            cmp.getDisabledStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getDisabledStyle().getBgColor()).
-                    rectangle(false).roundedPosition(5).radius(radius));
-        }
-        return this;
+        return applyBorder(5, radius, false, ALL);
     }
 
     public Helper borderTopRight(int radius) {
-        for (Component cmp : cmps) {
-            cmp.getUnselectedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getUnselectedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(6).radius(radius));
-            cmp.getSelectedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getSelectedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(6).radius(radius));
-            cmp.getPressedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getPressedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(6).radius(radius));
-            cmp.getDisabledStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getDisabledStyle().getBgColor()).
-                    rectangle(false).roundedPosition(6).radius(radius));
-        }
-        return this;
+        return applyBorder(6, radius, false, ALL);
     }
 
     public Helper borderBottomLeft(int radius) {
-        for (Component cmp : cmps) {
-            cmp.getUnselectedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getUnselectedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(7).radius(radius));
-            cmp.getSelectedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getSelectedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(7).radius(radius));
-            cmp.getPressedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getPressedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(7).radius(radius));
-            cmp.getDisabledStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getDisabledStyle().getBgColor()).
-                    rectangle(false).roundedPosition(7).radius(radius));
-        }
-        return this;
+        return applyBorder(7, radius, false, ALL);
     }
 
     public Helper borderBottomRight(int radius) {
-        for (Component cmp : cmps) {
-            cmp.getUnselectedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getUnselectedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(8).radius(radius));
-            cmp.getSelectedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getSelectedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(8).radius(radius));
-            cmp.getPressedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getPressedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(8).radius(radius));
-            cmp.getDisabledStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getDisabledStyle().getBgColor()).
-                    rectangle(false).roundedPosition(8).radius(radius));
-        }
-        return this;
+        return applyBorder(8, radius, false, ALL);
     }
 
     public Helper borderTop_(int radius, Component... cmps) {
-        for (Component cmp : cmps) {
-            cmp.getUnselectedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getUnselectedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(1).radius(radius));
-        }
+        applyBorder(cmps, 1, radius, false, UNSELECTED);
         return this;
     }
 
     public Helper borderBottom_(int radius) {
-        for (Component cmp : cmps) {
-            cmp.getUnselectedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getUnselectedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(2).radius(radius));
-        }
-        return this;
+        return applyBorder(2, radius, false, UNSELECTED);
     }
 
     public Helper borderLeft_(int radius) {
-        for (Component cmp : cmps) {
-            cmp.getUnselectedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getUnselectedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(3).radius(radius));
-        }
-        return this;
+        return applyBorder(3, radius, false, UNSELECTED);
     }
 
     public Helper borderRight_(int radius) {
-        for (Component cmp : cmps) {
-            cmp.getUnselectedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getUnselectedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(4).radius(radius));
-        }
-        return this;
+        return applyBorder(4, radius, false, UNSELECTED);
     }
 
     public Helper borderAll_(int radius) {
-        for (Component cmp : cmps) {
-            cmp.getUnselectedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getUnselectedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(-1).radius(radius));
-        }
-        return this;
+        return applyBorder(-1, radius, false, UNSELECTED);
     }
 
     public Helper borderAllWithShadow_(int radius) {
-        for (Component cmp : cmps) {
-            cmp.getUnselectedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getUnselectedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(-1).radius(radius).shadowOpacity(20).shadowSpread(CN.convertToPixels(0.2f), false).shadowX(0.4f).shadowY(0.3f));
-        }
-        return this;
+        return applyBorder(-1, radius, true, UNSELECTED);
     }
 
     public Helper borderTop___(int radius, Component... cmps) {
-        for (Component cmp : cmps) {
-            cmp.getPressedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getPressedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(1).radius(radius));
-        }
+        applyBorder(cmps, 1, radius, false, PRESSED);
         return this;
     }
 
     public Helper borderBottom___(int radius) {
-        for (Component cmp : cmps) {
-            cmp.getPressedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getPressedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(2).radius(radius));
+        return applyBorder(2, radius, false, PRESSED);
+    }
+
+    public Helper borderLeft___(int radius) {
+        return applyBorder(3, radius, false, PRESSED);
+    }
+
+    public Helper borderRight___(int radius) {
+        return applyBorder(4, radius, false, PRESSED);
+    }
+
+    public Helper borderAll___(int radius) {
+        return applyBorder(-1, radius, false, PRESSED);
+    }
+
+    public Helper borderAllWithShadow___(int radius) {
+        return applyBorder(-1, radius, true, PRESSED);
+    }
+
+    /**
+     * Returns the style of the component for the state index of
+     * {@link StyleSpec}
+     */
+    static Style style(Component c, int state) {
+        switch (state) {
+            case 1:
+                return c.getSelectedStyle();
+            case 2:
+                return c.getPressedStyle();
+            case 3:
+                return c.getDisabledStyle();
+            default:
+                return c.getUnselectedStyle();
+        }
+    }
+
+    /**
+     * The chain is about to restyle the components so a spec waiting to be
+     * applied is applied first and a spec applied before has to be applied
+     * again, see {@link StyleSpec#applyTo(Component)}
+     */
+    private void invalidate() {
+        for (Component c : cmps) {
+            StyleSpec.flushLazy(c);
+            StyleSpec.invalidate(c);
+            // measured after the chain, once the new style is in place
+            SizeConstraints.refresh(c);
+        }
+        StyleMetrics.styled(cmps.length);
+    }
+
+    /**
+     * Sets a size constraint, the components are measured after the current
+     * EDT task so their content is final, see {@link SizeConstraints}
+     */
+    private Helper constrain(int index, int size) {
+        StyleMetrics.operation();
+        if (spec != null) {
+            spec.setConstraint(index, size);
+        }
+        for (Component c : cmps) {
+            SizeConstraints.set(c, index, size);
         }
         return this;
     }
 
-    public Helper borderLeft___(int radius) {
-        for (Component cmp : cmps) {
-            cmp.getPressedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getPressedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(3).radius(radius));
+    private Helper units(byte unit) {
+        if (unit != Style.UNIT_TYPE_PIXELS) {
+            // the pixel values of an earlier pixel mode chain no longer apply
+            for (Component c : cmps) {
+                PixelUnits.forget(c);
+            }
+        }
+        write(StyleSpec.MARGIN_UNIT, unit, ALL);
+        return write(StyleSpec.PADDING_UNIT, unit, ALL);
+    }
+
+    /**
+     * Sets the margin or the padding of the given sides in the given states,
+     * the core of the margin and padding families
+     *
+     * @param kind {@link #MARGIN} or {@link #PADDING}
+     * @param sides a mask of the SIDE_* bits
+     * @param size the size in the unit of the helper
+     * @param states a mask of the state bits
+     */
+    private Helper spacing(int kind, int sides, float size, int states) {
+        StyleMetrics.operation();
+        if (spec != null) {
+            for (int side = 0; side < 4; side++) {
+                if ((sides & (1 << side)) != 0) {
+                    spec.setSpacing(kind + side, size, states);
+                }
+            }
+        }
+        for (Component c : cmps) {
+            for (int state = 0; state < StyleSpec.STATES; state++) {
+                if ((states & (1 << state)) != 0) {
+                    Style s = style(c, state);
+                    int count = 0;
+                    for (int side = 0; side < 4; side++) {
+                        if ((sides & (1 << side)) == 0) {
+                            continue;
+                        }
+                        boolean written;
+                        if (pixels) {
+                            written = PixelUnits.set(c, state, kind + side, size);
+                        } else {
+                            PixelUnits.forget(c, state, kind + side);
+                            written = StyleWriter.spacing(s, kind + side, size);
+                        }
+                        if (written) {
+                            count++;
+                        }
+                    }
+                    StyleMetrics.written(state, count);
+                }
+            }
         }
         return this;
     }
 
-    public Helper borderRight___(int radius) {
-        for (Component cmp : cmps) {
-            cmp.getPressedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getPressedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(4).radius(radius));
+    /**
+     * Sets one of the int values of {@link StyleSpec} in the given states,
+     * the core of the color and alignment families. Background colors also
+     * apply the background transparency of the helper.
+     */
+    private Helper write(int prop, int value, int states) {
+        if (prop == StyleSpec.BG_COLOR) {
+            write(StyleSpec.BG_TRANSPARENCY, bg_trans, states);
+        }
+        StyleMetrics.operation();
+        if (spec != null) {
+            spec.setInt(prop, value, states);
+        }
+        for (Component c : cmps) {
+            for (int state = 0; state < StyleSpec.STATES; state++) {
+                if ((states & (1 << state)) != 0 && StyleWriter.write(style(c, state), prop, value)) {
+                    StyleMetrics.written(state, 1);
+                }
+            }
         }
         return this;
     }
 
-    public Helper borderAll___(int radius) {
-        for (Component cmp : cmps) {
-            cmp.getPressedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getPressedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(-1).radius(radius));
+    /**
+     * Sets one of the object values of {@link StyleSpec} in the given states
+     */
+    private Helper write(int prop, Object value, int states) {
+        StyleMetrics.operation();
+        if (spec != null) {
+            spec.setObject(prop, value, states);
+        }
+        for (Component c : cmps) {
+            // async backgrounds repaint the component they are bound to
+            Object v = value instanceof AsyncBackground ? ((AsyncBackground) value).bind(c) : value;
+            for (int state = 0; state < StyleSpec.STATES; state++) {
+                if ((states & (1 << state)) != 0 && StyleWriter.write(style(c, state), prop, v)) {
+                    StyleMetrics.written(state, 1);
+                }
+            }
         }
         return this;
     }
 
-    public Helper borderAllWithShadow___(int radius) {
-        for (Component cmp : cmps) {
-            cmp.getPressedStyle().setBorder(RoundedBorder.create().
-                    color(cmp.getPressedStyle().getBgColor()).
-                    rectangle(false).roundedPosition(-1).radius(radius).shadowOpacity(20).shadowSpread(CN.convertToPixels(0.2f), false).shadowX(0.4f).shadowY(0.3f));
+    private Helper applyBorder(int roundedPosition, int radius, boolean shadow, int states) {
+        if (spec != null) {
+            spec.setBorder(roundedPosition, radius, shadow, states);
         }
+        applyBorder(cmps, roundedPosition, radius, shadow, states);
         return this;
     }
+
+    /**
+     * Sets a rounded border taking the background color of each state
+     */
+    private static void applyBorder(Component[] components, int roundedPosition, int radius, boolean shadow, int states) {
+        StyleMetrics.operation();
+        for (Component c : components) {
+            for (int state = 0; state < StyleSpec.STATES; state++) {
+                if ((states & (1 << state)) != 0) {
+                    Style s = style(c, state);
+                    if (StyleWriter.border(s, shadow ? shadowBorder(s.getBgColor(), radius) : border(s.getBgColor(), roundedPosition, radius))) {
+                        StyleMetrics.written(state, 1);
+                    }
+                }
+            }
+        }
+    }
+
+    private static RoundedBorder borderProbe() {
+        if (borderProbe == null) {
+            borderProbe = RoundedBorder.create().rectangle(false);
+        }
+        return borderProbe;
+    }
+
+    /**
+     * Returns the shared rounded border for the given color, position and
+     * radius so components styled alike use the same border instance. The
+     * probe is reset to the defaults of {@link RoundedBorder#create()},
+     * including the 2mm shadow spread that sets the minimum size of the
+     * border.
+     */
+    static RoundedBorder border(int color, int roundedPosition, int radius) {
+        return borderProbe().color(color).roundedPosition(roundedPosition).radius(radius).
+                shadowOpacity(0).shadowSpread(Units.toPixels(2), false).shadowX(0.5f).shadowY(0.5f).intern();
+    }
+
+    /**
+     * Returns the shared rounded border with a drop shadow for the given color
+     * and radius
+     */
+    static RoundedBorder shadowBorder(int color, int radius) {
+        return borderProbe().color(color).roundedPosition(-1).radius(radius).
+                shadowOpacity(20).shadowSpread(Units.toPixels(0.2f), false).shadowX(0.4f).shadowY(0.3f).intern();
+    }
 }
@@ -0,0 +1,529 @@
+package com.diamonddevgroup.utils;
+
+import com.codename1.io.BufferedInputStream;
+import com.codename1.io.Log;
+import com.codename1.io.Storage;
+import com.codename1.io.Util;
+import com.codename1.ui.CN;
+import com.codename1.ui.Image;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the shadow masks of the rounded borders in {@link Storage} so they
+ * aren't rendered again on the next launch. The masks only depend on the
+ * shadow parameters, the size and the density which are written in the
+ * header of each entry and checked when it is read. The pixels are stored as
+ * runs of alpha values since the shadow is black and mostly made of long runs
+ * of the same value.
+ * <br><br>
+ * An index entry lists the masks in least recently used order with their
+ * size, the oldest masks are deleted once the budget is exceeded. Every entry
+ * is discarded when the index was written by a different {@link #VERSION}.
+ * The store is off until a budget is set.
+ * <br><br>
+ * The index is read in the background once a budget is set. The masks are
+ * read and decoded in background tasks when they are missing from the memory
+ * cache, rendered masks are encoded and written in background tasks too.
+ * Codename One runs these tasks one at a time so the entries are never read
+ * and written at once. The state of the store is only touched on the EDT.
+ *
+ * @author Diamond
+ */
+final class MaskStore {
+
+    /**
+     * The format version, bump it whenever the layout of the entries or the
+     * rendering of the shadows changes
+     */
+    static final int VERSION = 1;
+
+    private static final String INDEX = "RoundedBorder$masks";
+
+    private static final String PREFIX = "RoundedBorder$mask-";
+
+    private static int budget;
+
+    // the name and size of every stored mask, the eldest first, null until
+    // the index is read
+    private static LinkedHashMap<String, Integer> index;
+
+    private static int size;
+
+    private static boolean indexRequested;
+
+    // invoked once the index is read
+    private static final ArrayList<Runnable> indexed = new ArrayList<Runnable>();
+
+    // the listeners waiting for each mask being read
+    private static final HashMap<String, ArrayList<Loaded>> loading = new HashMap<String, ArrayList<Loaded>>();
+
+    // invoked once no mask is being read or encoded
+    private static final ArrayList<Runnable> idle = new ArrayList<Runnable>();
+
+    private static int encoding;
+
+    // deletes every mask and the index
+    private static final Runnable deleteAll = new Runnable() {
+        public void run() {
+            Storage s = Storage.getInstance();
+            String[] entries = s.listEntries();
+            if (entries == null) {
+                return;
+            }
+            for (int iter = 0; iter < entries.length; iter++) {
+                if (entries[iter].startsWith(PREFIX) || entries[iter].equals(INDEX)) {
+                    s.deleteStorageFile(entries[iter]);
+                }
+            }
+        }
+    };
+
+    /**
+     * Receives a mask read by {@link MaskStore#fetch}
+     */
+    interface Loaded {
+
+        /**
+         * Invoked on the EDT once the mask is read
+         *
+         * @param mask the mask or null if the entry couldn't be read
+         */
+        void loaded(Image mask);
+    }
+
+    private MaskStore() {
+    }
+
+    static int getBudget() {
+        return budget;
+    }
+
+    /**
+     * Sets the maximum size of the stored masks in bytes, 0 turns the store
+     * off. The index is read in the background the first time the store is
+     * turned on.
+     */
+    static void setBudget(int bytes) {
+        budget = Math.max(0, bytes);
+        if (index != null) {
+            save(trim());
+        } else if (budget > 0) {
+            requestIndex();
+        }
+    }
+
+    /**
+     * Invokes the callback on the EDT once the index is read, right away if
+     * it is already read or the store is off
+     */
+    static void whenIndexed(Runnable callback) {
+        if (index != null || budget == 0) {
+            callback.run();
+            return;
+        }
+        indexed.add(callback);
+        requestIndex();
+    }
+
+    /**
+     * Reads the index in the background unless it is already being read
+     */
+    private static void requestIndex() {
+        if (indexRequested) {
+            return;
+        }
+        indexRequested = true;
+        CN.scheduleBackgroundTask(new Runnable() {
+            public void run() {
+                final LinkedHashMap<String, Integer> read = readIndex();
+                CN.callSerially(new Runnable() {
+                    public void run() {
+                        // the index was cleared on the EDT meanwhile
+                        if (index == null) {
+                            applyIndex(read);
+                        }
+                        Runnable[] callbacks = new Runnable[indexed.size()];
+                        indexed.toArray(callbacks);
+                        indexed.clear();
+                        for (int iter = 0; iter < callbacks.length; iter++) {
+                            callbacks[iter].run();
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * True if the mask identified by the parameters is stored, false while
+     * the index isn't read yet
+     *
+     * @param params the values the mask depends on, see
+     * {@link RoundedBorder}
+     * @return whether {@link #fetch} can read the mask
+     */
+    static boolean contains(int[] params) {
+        return budget > 0 && index != null && index.containsKey(name(params));
+    }
+
+    /**
+     * Reads and decodes the mask identified by the parameters in the
+     * background, a mask already being read isn't read twice
+     *
+     * @param params the values the mask depends on
+     * @param listener invoked on the EDT with the mask, a listener equal to
+     * one already waiting for the mask is dropped
+     */
+    static void fetch(final int[] params, final int width, final int height, Loaded listener) {
+        final String name = name(params);
+        ArrayList<Loaded> waiting = loading.get(name);
+        if (waiting != null) {
+            if (!waiting.contains(listener)) {
+                waiting.add(listener);
+            }
+            return;
+        }
+        waiting = new ArrayList<Loaded>();
+        waiting.add(listener);
+        loading.put(name, waiting);
+        CN.scheduleBackgroundTask(new Runnable() {
+            public void run() {
+                final int[] argb = read(name, params, width * height);
+                CN.callSerially(new Runnable() {
+                    public void run() {
+                        Image mask = null;
+                        if (argb == null) {
+                            remove(name);
+                        } else {
+                            mask = Image.createImage(argb, width, height);
+                        }
+                        ArrayList<Loaded> done = loading.remove(name);
+                        for (Loaded l : done) {
+                            l.loaded(mask);
+                        }
+                        checkIdle();
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Stores a rendered mask, the entry is encoded and written in the
+     * background
+     *
+     * @param params the values the mask depends on
+     * @param argb the pixels of the mask, only the alpha channel is kept. The
+     * store takes the buffer and returns it to {@link ScratchBuffers} once it
+     * is encoded.
+     */
+    static void store(final int[] params, final int[] argb, final int width, final int height) {
+        if (budget == 0 || index == null) {
+            ScratchBuffers.release(argb);
+            return;
+        }
+        final String name = name(params);
+        encoding++;
+        CN.scheduleBackgroundTask(new Runnable() {
+            public void run() {
+                final byte[] data = encode(params, argb, width * height);
+                CN.callSerially(new Runnable() {
+                    public void run() {
+                        encoding--;
+                        ScratchBuffers.release(argb);
+                        stored(name, data);
+                        checkIdle();
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Adds an encoded mask to the index and writes it in the background
+     */
+    private static void stored(final String name, final byte[] data) {
+        if (data == null || budget == 0 || data.length > budget) {
+            return;
+        }
+        Integer old = index.remove(name);
+        if (old != null) {
+            size -= old.intValue();
+        }
+        index.put(name, new Integer(data.length));
+        size += data.length;
+        final String[] evicted = trim();
+        final byte[] snapshot = indexData();
+        CN.scheduleBackgroundTask(new Runnable() {
+            public void run() {
+                write(name, data);
+                delete(evicted);
+                write(INDEX, snapshot);
+            }
+        });
+    }
+
+    /**
+     * Invokes the callback on the EDT once no mask is being read or encoded,
+     * right away if the store is idle
+     */
+    static void whenIdle(Runnable callback) {
+        idle.add(callback);
+        checkIdle();
+    }
+
+    private static void checkIdle() {
+        if (!loading.isEmpty() || encoding > 0 || idle.isEmpty()) {
+            return;
+        }
+        Runnable[] callbacks = new Runnable[idle.size()];
+        idle.toArray(callbacks);
+        idle.clear();
+        for (int iter = 0; iter < callbacks.length; iter++) {
+            callbacks[iter].run();
+        }
+    }
+
+    /**
+     * Deletes every stored mask
+     */
+    static void clear() {
+        // nothing was stored since the last clear
+        boolean empty = index != null && index.isEmpty();
+        index = new LinkedHashMap<String, Integer>(16, 0.75f, true);
+        size = 0;
+        if (!empty) {
+            CN.scheduleBackgroundTask(deleteAll);
+        }
+    }
+
+    private static String name(int[] params) {
+        int h = VERSION;
+        for (int iter = 0; iter < params.length; iter++) {
+            h = 31 * h + params[iter];
+        }
+        return PREFIX + Integer.toHexString(h);
+    }
+
+    private static boolean readHeader(DataInputStream in, int[] params) throws IOException {
+        if (in.readInt() != VERSION || in.readInt() != params.length) {
+            return false;
+        }
+        for (int iter = 0; iter < params.length; iter++) {
+            if (in.readInt() != params[iter]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the index entry, safe to call off the EDT
+     *
+     * @return the index, empty if there is none and null if it was written by
+     * another version or can't be read
+     */
+    private static LinkedHashMap<String, Integer> readIndex() {
+        LinkedHashMap<String, Integer> read = new LinkedHashMap<String, Integer>(16, 0.75f, true);
+        Storage s = Storage.getInstance();
+        if (!s.exists(INDEX)) {
+            return read;
+        }
+        DataInputStream in = null;
+        try {
+            in = new DataInputStream(new BufferedInputStream(s.createInputStream(INDEX)));
+            if (in.readInt() != VERSION) {
+                return null;
+            }
+            int count = in.readInt();
+            for (int iter = 0; iter < count; iter++) {
+                String name = in.readUTF();
+                read.put(name, new Integer(in.readInt()));
+            }
+            return read;
+        } catch (IOException err) {
+            Log.e(err);
+            return null;
+        } finally {
+            Util.cleanup(in);
+        }
+    }
+
+    /**
+     * Installs the index read by {@link #readIndex()}, an invalid index
+     * discards every mask
+     */
+    private static void applyIndex(LinkedHashMap<String, Integer> read) {
+        size = 0;
+        if (read == null) {
+            index = new LinkedHashMap<String, Integer>(16, 0.75f, true);
+            CN.scheduleBackgroundTask(deleteAll);
+            return;
+        }
+        index = read;
+        for (Integer bytes : read.values()) {
+            size += bytes.intValue();
+        }
+        save(trim());
+    }
+
+    /**
+     * Reads and decodes a mask entry, safe to call off the EDT
+     *
+     * @return the pixels of the mask or null if the entry is missing, stale
+     * or corrupted
+     */
+    private static int[] read(String name, int[] params, int count) {
+        DataInputStream in = null;
+        try {
+            in = new DataInputStream(new BufferedInputStream(Storage.getInstance().createInputStream(name)));
+            if (!readHeader(in, params)) {
+                throw new IOException("Mismatched mask " + name);
+            }
+            int[] argb = new int[count];
+            int pos = 0;
+            while (pos < count) {
+                int run = in.readUnsignedByte();
+                int alpha = in.readUnsignedByte() << 24;
+                if (run == 0 || pos + run > count) {
+                    throw new IOException("Corrupted mask " + name);
+                }
+                for (int iter = 0; iter < run; iter++) {
+                    argb[pos++] = alpha;
+                }
+            }
+            return argb;
+        } catch (IOException err) {
+            Log.e(err);
+            return null;
+        } finally {
+            Util.cleanup(in);
+        }
+    }
+
+    /**
+     * Encodes the header and the alpha runs of a mask, safe to call off the
+     * EDT
+     *
+     * @return the entry or null if it couldn't be encoded
+     */
+    private static byte[] encode(int[] params, int[] argb, int count) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(VERSION);
+            out.writeInt(params.length);
+            for (int iter = 0; iter < params.length; iter++) {
+                out.writeInt(params[iter]);
+            }
+            int pos = 0;
+            while (pos < count) {
+                int alpha = argb[pos] >>> 24;
+                int run = 1;
+                while (run < 255 && pos + run < count && argb[pos + run] >>> 24 == alpha) {
+                    run++;
+                }
+                out.writeByte(run);
+                out.writeByte(alpha);
+                pos += run;
+            }
+            out.close();
+            return bytes.toByteArray();
+        } catch (IOException err) {
+            Log.e(err);
+            return null;
+        }
+    }
+
+    private static void remove(String name) {
+        if (index == null) {
+            return;
+        }
+        Integer old = index.remove(name);
+        if (old != null) {
+            size -= old.intValue();
+        }
+        save(new String[]{name});
+    }
+
+    /**
+     * Drops the eldest masks until the budget is met
+     *
+     * @return the names of the dropped masks
+     */
+    private static String[] trim() {
+        ArrayList<String> evicted = new ArrayList<String>();
+        Iterator<Map.Entry<String, Integer>> it = index.entrySet().iterator();
+        while (size > budget && it.hasNext()) {
+            Map.Entry<String, Integer> e = it.next();
+            size -= e.getValue().intValue();
+            evicted.add(e.getKey());
+            it.remove();
+        }
+        String[] out = new String[evicted.size()];
+        evicted.toArray(out);
+        return out;
+    }
+
+    /**
+     * Deletes the entries and writes the index in the background
+     */
+    private static void save(final String[] deleted) {
+        if (deleted.length == 0) {
+            return;
+        }
+        final byte[] snapshot = indexData();
+        CN.scheduleBackgroundTask(new Runnable() {
+            public void run() {
+                delete(deleted);
+                write(INDEX, snapshot);
+            }
+        });
+    }
+
+    private static byte[] indexData() {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(VERSION);
+            out.writeInt(index.size());
+            for (Map.Entry<String, Integer> e : index.entrySet()) {
+                out.writeUTF(e.getKey());
+                out.writeInt(e.getValue().intValue());
+            }
+            out.close();
+            return bytes.toByteArray();
+        } catch (IOException err) {
+            // writing to memory doesn't fail
+            return new byte[0];
+        }
+    }
+
+    private static void write(String name, byte[] data) {
+        OutputStream out = null;
+        try {
+            out = Storage.getInstance().createOutputStream(name);
+            out.write(data);
+        } catch (IOException err) {
+            Log.e(err);
+        } finally {
+            Util.cleanup(out);
+        }
+    }
+
+    private static void delete(String[] names) {
+        Storage s = Storage.getInstance();
+        for (int iter = 0; iter < names.length; iter++) {
+            s.deleteStorageFile(names[iter]);
+        }
+    }
+}
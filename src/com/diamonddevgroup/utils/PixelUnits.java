@@ -0,0 +1,160 @@
+package com.diamonddevgroup.utils;
+
+import com.codename1.ui.CN;
+import com.codename1.ui.Component;
+import com.codename1.ui.Display;
+import com.codename1.ui.Form;
+import com.codename1.ui.events.ActionEvent;
+import com.codename1.ui.events.ActionListener;
+import java.util.ArrayList;
+import java.util.HashSet;
+
+/**
+ * Keeps the millimeter values of the margins and paddings that a pixel mode
+ * {@link Helper} wrote as pixels, so they can be converted again when the
+ * density or the orientation of the display changes. The values are kept in
+ * a client property of each component and the components are tracked weakly.
+ * <br><br>
+ * This class isn't thread safe, it is meant to be used from the EDT only.
+ *
+ * @author Diamond
+ */
+final class PixelUnits {
+
+    // the client property holding the millimeter values of a component
+    private static final String VALUES = "$PixelUnits.values";
+
+    // the client property marking a form that is watched for size changes
+    private static final String WATCHED = "$PixelUnits.watched";
+
+    // weak references to the components holding millimeter values, see
+    // Display.createSoftWeakRef()
+    private static final ArrayList<Object> components = new ArrayList<Object>();
+
+    // components that weren't in a form yet when they were styled
+    private static final ArrayList<Component> pending = new ArrayList<Component>();
+
+    private static final ActionListener<ActionEvent> sizeListener = new ActionListener<ActionEvent>() {
+        public void actionPerformed(ActionEvent evt) {
+            resolve();
+        }
+    };
+
+    private PixelUnits() {
+    }
+
+    /**
+     * Writes the spacing as pixels and remembers the millimeter value
+     *
+     * @param c the component
+     * @param state the state index of {@link StyleSpec}
+     * @param index the spacing index of {@link StyleSpec}
+     * @param mm the size in millimeters
+     * @return false if the style already held the size
+     */
+    static boolean set(Component c, int state, int index, float mm) {
+        float[] values = (float[]) c.getClientProperty(VALUES);
+        if (values == null) {
+            values = new float[StyleSpec.STATES * StyleSpec.SPACING];
+            for (int iter = 0; iter < values.length; iter++) {
+                values[iter] = Float.NaN;
+            }
+            c.putClientProperty(VALUES, values);
+            components.add(Display.getInstance().createSoftWeakRef(c));
+            watch(c);
+        }
+        values[state * StyleSpec.SPACING + index] = mm;
+        return StyleWriter.spacing(Helper.style(c, state), index, Units.toPixels(mm));
+    }
+
+    /**
+     * Forgets the millimeter value after the spacing was set by other means so
+     * it isn't converted again
+     */
+    static void forget(Component c, int state, int index) {
+        float[] values = (float[]) c.getClientProperty(VALUES);
+        if (values != null) {
+            values[state * StyleSpec.SPACING + index] = Float.NaN;
+        }
+    }
+
+    /**
+     * Forgets every millimeter value of the component
+     */
+    static void forget(Component c) {
+        if (c.getClientProperty(VALUES) != null) {
+            c.putClientProperty(VALUES, null);
+        }
+    }
+
+    /**
+     * Converts the remembered values of every live component again and
+     * revalidates their forms
+     */
+    static void resolve() {
+        HashSet<Form> forms = new HashSet<Form>();
+        for (int iter = components.size() - 1; iter >= 0; iter--) {
+            Component c = (Component) Display.getInstance().extractHardRef(components.get(iter));
+            if (c == null) {
+                components.remove(iter);
+                continue;
+            }
+            float[] values = (float[]) c.getClientProperty(VALUES);
+            if (values == null) {
+                components.remove(iter);
+                continue;
+            }
+            for (int state = 0; state < StyleSpec.STATES; state++) {
+                for (int index = 0; index < StyleSpec.SPACING; index++) {
+                    float mm = values[state * StyleSpec.SPACING + index];
+                    if (mm == mm) {
+                        StyleWriter.spacing(Helper.style(c, state), index, Units.toPixels(mm));
+                    }
+                }
+            }
+            c.setShouldCalcPreferredSize(true);
+            Form f = c.getComponentForm();
+            if (f != null) {
+                watch(f);
+                forms.add(f);
+            }
+        }
+        for (Form f : forms) {
+            f.revalidate();
+        }
+    }
+
+    /**
+     * Listens to size changes of the form of the component. Components styled
+     * before they are added to a form are checked again once the current EDT
+     * task is done.
+     */
+    private static void watch(Component c) {
+        Form f = c.getComponentForm();
+        if (f != null) {
+            watch(f);
+            return;
+        }
+        if (pending.isEmpty()) {
+            CN.callSerially(new Runnable() {
+                public void run() {
+                    for (Component p : pending) {
+                        Form f = p.getComponentForm();
+                        if (f != null) {
+                            watch(f);
+                        }
+                    }
+                    pending.clear();
+                }
+            });
+        }
+        pending.add(c);
+    }
+
+    private static void watch(Form f) {
+        if (f.getClientProperty(WATCHED) == null) {
+            f.putClientProperty(WATCHED, Boolean.TRUE);
+            f.addSizeChangedListener(sizeListener);
+        }
+    }
+}
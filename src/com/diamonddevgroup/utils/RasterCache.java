@@ -0,0 +1,124 @@
+package com.diamonddevgroup.utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A least recently used cache of rendered rasters shared between components.
+ * The cache is bounded by an estimated size in bytes rather than by the number
+ * of entries so a few large images can't push the application out of memory.
+ * <br><br>
+ * This class isn't thread safe, it is meant to be used from the EDT only.
+ *
+ * @author Diamond
+ */
+final class RasterCache {
+
+    private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<Object, Entry>(16, 0.75f, true);
+
+    private int budget;
+
+    private int size;
+
+    /**
+     * Creates a cache that holds up to the given amount of bytes
+     *
+     * @param budget the maximum size of the cache in bytes
+     */
+    RasterCache(int budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * Returns the cached value for the given key and marks it as the most
+     * recently used entry
+     *
+     * @param key the key of the entry
+     * @return the cached value or null if it isn't in the cache
+     */
+    Object get(Object key) {
+        Entry e = entries.get(key);
+        if (e == null) {
+            return null;
+        }
+        return e.value;
+    }
+
+    /**
+     * Adds a value to the cache evicting the least recently used entries if the
+     * budget is exceeded. Values larger than the whole budget aren't cached.
+     *
+     * @param key the key of the entry, it must not be mutated afterwards
+     * @param value the value to cache
+     * @param bytes the estimated size of the value in bytes
+     */
+    void put(Object key, Object value, int bytes) {
+        Entry old = entries.remove(key);
+        if (old != null) {
+            size -= old.bytes;
+        }
+        if (bytes > budget) {
+            return;
+        }
+        entries.put(key, new Entry(value, bytes));
+        size += bytes;
+        trim();
+    }
+
+    /**
+     * Removes all the entries from the cache
+     */
+    void clear() {
+        entries.clear();
+        size = 0;
+    }
+
+    /**
+     * The maximum size of the cache in bytes
+     *
+     * @return the budget in bytes
+     */
+    int getBudget() {
+        return budget;
+    }
+
+    /**
+     * Changes the maximum size of the cache evicting entries if the new budget
+     * is smaller than the current size
+     *
+     * @param budget the budget in bytes
+     */
+    void setBudget(int budget) {
+        this.budget = budget;
+        trim();
+    }
+
+    /**
+     * The estimated size of all the cached values in bytes
+     *
+     * @return the size in bytes
+     */
+    int getSize() {
+        return size;
+    }
+
+    private void trim() {
+        Iterator<Map.Entry<Object, Entry>> it = entries.entrySet().iterator();
+        while (size > budget && it.hasNext()) {
+            size -= it.next().getValue().bytes;
+            it.remove();
+        }
+    }
+
+    private static final class Entry {
+
+        final Object value;
+        final int bytes;
+
+        Entry(Object value, int bytes) {
+            this.value = value;
+            this.bytes = bytes;
+        }
+    }
+}
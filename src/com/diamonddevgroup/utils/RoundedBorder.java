@@ -22,7 +22,6 @@
  */
 package com.diamonddevgroup.utils;
 
-import com.codename1.ui.CN;
 import com.codename1.ui.Component;
 import com.codename1.ui.Display;
 import com.codename1.ui.Graphics;
@@ -31,6 +30,8 @@ import com.codename1.ui.Stroke;
 import com.codename1.ui.geom.GeneralPath;
 import com.codename1.ui.geom.Rectangle;
 import com.codename1.ui.plaf.Border;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 
 /**
  * <p>
@@ -47,6 +48,24 @@ public class RoundedBorder extends Border {
 
     private static final String CACHE_KEY = "cn1$$-rbcache";
 
+    /**
+     * The default size of the shared raster cache in bytes
+     */
+    public static final int DEFAULT_CACHE_BUDGET = 8 * 1024 * 1024;
+
+    // rasters are shared between all the components whose borders look the same
+    private static final RasterCache cache = new RasterCache(DEFAULT_CACHE_BUDGET);
+
+    // painting happens on the EDT so a single key instance is reused for lookups
+    private static final RasterKey PROBE = new RasterKey();
+
+    // the most interned borders kept in the registry, the rasters are keyed by
+    // value so a border dropped from it keeps sharing them
+    private static final int REGISTRY_LIMIT = 512;
+
+    // shared immutable instances in least recently used order, see intern()
+    private static final LinkedHashMap<RoundedBorder, RoundedBorder> registry = new LinkedHashMap<RoundedBorder, RoundedBorder>(16, 0.75f, true);
+
     /**
      * The color of the border background
      */
@@ -134,8 +153,20 @@ public class RoundedBorder extends Border {
 
     private boolean uiid;
 
+    /**
+     * True if the border is painted from a nine-slice atlas instead of a raster
+     * of the full component size
+     */
+    private boolean nineSlice;
+
+    /**
+     * True if this is a shared instance returned by {@link #intern()} which
+     * can't be modified
+     */
+    private boolean shared;
+
     private RoundedBorder() {
-        shadowSpread = CN.convertToPixels(2);
+        shadowSpread = Units.toPixels(2);
         instanceCounter++;
         instanceVal = instanceCounter;
     }
@@ -151,6 +182,76 @@ public class RoundedBorder extends Border {
         return new RoundedBorder();
     }
 
+    /**
+     * <p>
+     * Returns a shared instance that looks exactly like this border. Identical
+     * borders are only created once no matter how many components use them
+     * and they share their rendered rasters. The registry keeps the 512 most
+     * recently interned borders, see {@link #clearRegistry()}.</p>
+     * <p>
+     * <strong>Notice: </strong>the returned border is immutable, calling any of
+     * the chained setters on it throws an {@code IllegalStateException}. This
+     * border remains mutable and isn't registered itself.</p>
+     *
+     * @return a shared immutable border equal to this border
+     */
+    public RoundedBorder intern() {
+        if (shared) {
+            return this;
+        }
+        RoundedBorder b = registry.get(this);
+        if (b == null) {
+            b = copy();
+            b.shared = true;
+            if (registry.size() >= REGISTRY_LIMIT) {
+                Iterator<RoundedBorder> it = registry.keySet().iterator();
+                it.next();
+                it.remove();
+            }
+            registry.put(b, b);
+        }
+        return b;
+    }
+
+    /**
+     * True if this is a shared instance returned by {@link #intern()}, such a
+     * border can't be modified
+     *
+     * @return true if the border is shared
+     */
+    public boolean isShared() {
+        return shared;
+    }
+
+    private void checkMutable() {
+        if (shared) {
+            throw new IllegalStateException("A shared RoundedBorder can't be modified, create a new border instead");
+        }
+    }
+
+    private RoundedBorder copy() {
+        RoundedBorder b = new RoundedBorder();
+        b.color = color;
+        b.opacity = opacity;
+        b.strokeColor = strokeColor;
+        b.strokeOpacity = strokeOpacity;
+        b.stroke = stroke;
+        b.strokeThickness = strokeThickness;
+        b.strokeMM = strokeMM;
+        b.shadowSpread = shadowSpread;
+        b.shadowOpacity = shadowOpacity;
+        b.roundedPosition = roundedPosition;
+        b.radius = radius;
+        b.shadowX = shadowX;
+        b.shadowY = shadowY;
+        b.shadowBlur = shadowBlur;
+        b.shadowMM = shadowMM;
+        b.rectangle = rectangle;
+        b.uiid = uiid;
+        b.nineSlice = nineSlice;
+        return b;
+    }
+
     /**
      * <p>
      * Uses the style of the components UIID to draw the background of the
@@ -166,6 +267,7 @@ public class RoundedBorder extends Border {
      * @return border instance so these calls can be chained
      */
     public RoundedBorder uiid(boolean uiid) {
+        checkMutable();
         this.uiid = uiid;
         return this;
     }
@@ -186,6 +288,7 @@ public class RoundedBorder extends Border {
      * @return border instance so these calls can be chained
      */
     public RoundedBorder color(int color) {
+        checkMutable();
         this.color = color;
         return this;
     }
@@ -198,6 +301,7 @@ public class RoundedBorder extends Border {
      * @return border instance so these calls can be chained
      */
     public RoundedBorder opacity(int opacity) {
+        checkMutable();
         this.opacity = opacity;
         return this;
     }
@@ -210,6 +314,7 @@ public class RoundedBorder extends Border {
      * @return border instance so these calls can be chained
      */
     public RoundedBorder strokeOpacity(int strokeOpacity) {
+        checkMutable();
         this.strokeOpacity = strokeOpacity;
         return this;
     }
@@ -221,6 +326,7 @@ public class RoundedBorder extends Border {
      * @return border instance so these calls can be chained
      */
     public RoundedBorder strokeColor(int strokeColor) {
+        checkMutable();
         this.strokeColor = strokeColor;
         return this;
     }
@@ -232,6 +338,7 @@ public class RoundedBorder extends Border {
      * @return border instance so these calls can be chained
      */
     public RoundedBorder stroke(Stroke stroke) {
+        checkMutable();
         this.stroke = stroke;
         return this;
     }
@@ -245,6 +352,7 @@ public class RoundedBorder extends Border {
      * @return border instance so these calls can be chained
      */
     public RoundedBorder stroke(float stroke, boolean mm) {
+        checkMutable();
         strokeThickness = stroke;
         if (strokeThickness == 0) {
             this.stroke = null;
@@ -252,7 +360,7 @@ public class RoundedBorder extends Border {
         }
         strokeMM = mm;
         if (mm) {
-            stroke = CN.convertToPixels(stroke);
+            stroke = Units.toPixels(stroke);
         }
         return stroke(new Stroke(stroke, Stroke.CAP_SQUARE, Stroke.JOIN_MITER, 1));
     }
@@ -268,6 +376,7 @@ public class RoundedBorder extends Border {
      * @return border instance so these calls can be chained
      */
     public RoundedBorder shadowSpread(int shadowSpread, boolean mm) {
+        checkMutable();
         this.shadowMM = mm;
         this.shadowSpread = shadowSpread;
         return this;
@@ -282,6 +391,7 @@ public class RoundedBorder extends Border {
      * @return border instance so these calls can be chained
      */
     public RoundedBorder shadowSpread(int shadowSpread) {
+        checkMutable();
         this.shadowSpread = shadowSpread;
         return this;
     }
@@ -294,6 +404,7 @@ public class RoundedBorder extends Border {
      * @return border instance so these calls can be chained
      */
     public RoundedBorder shadowOpacity(int shadowOpacity) {
+        checkMutable();
         this.shadowOpacity = shadowOpacity;
         return this;
     }
@@ -306,6 +417,7 @@ public class RoundedBorder extends Border {
      * @return border instance so these calls can be chained
      */
     public RoundedBorder roundedPosition(int roundedPosition) {
+        checkMutable();
         this.roundedPosition = roundedPosition;
         return this;
     }
@@ -317,6 +429,7 @@ public class RoundedBorder extends Border {
      * @return border instance so these calls can be chained
      */
     public RoundedBorder radius(int radius) {
+        checkMutable();
         this.radius = radius;
         return this;
     }
@@ -330,6 +443,7 @@ public class RoundedBorder extends Border {
      * @return border instance so these calls can be chained
      */
     public RoundedBorder shadowX(float shadowX) {
+        checkMutable();
         this.shadowX = shadowX;
         return this;
     }
@@ -343,6 +457,7 @@ public class RoundedBorder extends Border {
      * @return border instance so these calls can be chained
      */
     public RoundedBorder shadowY(float shadowY) {
+        checkMutable();
         this.shadowY = shadowY;
         return this;
     }
@@ -355,6 +470,7 @@ public class RoundedBorder extends Border {
      * @return border instance so these calls can be chained
      */
     public RoundedBorder shadowBlur(float shadowBlur) {
+        checkMutable();
         this.shadowBlur = shadowBlur;
         return this;
     }
@@ -368,61 +484,345 @@ public class RoundedBorder extends Border {
      * @return border instance so these calls can be chained
      */
     public RoundedBorder rectangle(boolean rectangle) {
+        checkMutable();
         this.rectangle = rectangle;
         return this;
     }
 
+    /**
+     * Sets the maximum amount of memory in bytes used by the raster cache
+     * shared between all rounded borders. The least recently used rasters are
+     * discarded once the budget is exceeded.
+     *
+     * @param bytes the size of the cache in bytes
+     */
+    public static void setCacheBudget(int bytes) {
+        cache.setBudget(bytes);
+    }
+
+    /**
+     * The maximum amount of memory in bytes used by the shared raster cache
+     *
+     * @return the size of the cache in bytes
+     */
+    public static int getCacheBudget() {
+        return cache.getBudget();
+    }
+
+    /**
+     * The estimated amount of memory in bytes used by the rasters in the
+     * shared cache
+     *
+     * @return the size of the cached rasters in bytes
+     */
+    public static int getCacheSize() {
+        return cache.getSize();
+    }
+
+    /**
+     * Sets the maximum amount of storage in bytes used to keep the shadows of
+     * the rounded borders across launches, so a cold start doesn't render
+     * them again. The shadows are kept in {@code Storage} and the least
+     * recently used ones are deleted once the budget is exceeded. The stored
+     * shadows are read and written in background tasks, a border is painted
+     * without its shadow until its shadow is read. The disk cache is off by
+     * default, set it early so the index of the stored shadows is read before
+     * the first form is painted.
+     *
+     * @param bytes the size of the disk cache in bytes, 0 turns it off
+     */
+    public static void setDiskCacheBudget(int bytes) {
+        MaskStore.setBudget(bytes);
+    }
+
+    /**
+     * The maximum amount of storage in bytes used to keep the shadows across
+     * launches
+     *
+     * @return the size of the disk cache in bytes, 0 when it is off
+     */
+    public static int getDiskCacheBudget() {
+        return MaskStore.getBudget();
+    }
+
+    /**
+     * Deletes the shadows kept in storage, see
+     * {@link #setDiskCacheBudget(int)}
+     */
+    public static void clearDiskCache() {
+        MaskStore.clear();
+    }
+
+    /**
+     * Discards all the rasters in the shared cache
+     */
+    public static void clearCache() {
+        cache.clear();
+    }
+
+    /**
+     * Drops every cache the borders paint from: the rasters, the pooled pixel
+     * buffers, the shadow ramp and the masks kept in storage. The next paint
+     * of each border renders it from scratch, use it to measure or test a cold
+     * first paint.
+     */
+    public static void resetCaches() {
+        clearCache();
+        ScratchBuffers.clear();
+        ShadowRenderer.clear();
+        clearDiskCache();
+    }
+
+    /**
+     * Forgets the shared borders returned by {@link #intern()}, the borders
+     * already in use keep working and the next call to intern() creates a new
+     * shared instance
+     */
+    public static void clearRegistry() {
+        registry.clear();
+    }
+
+    /**
+     * <p>
+     * When set to true the corners and the shadow edges are rendered once into
+     * a small atlas and the straight edges and the center are stretched to the
+     * size of the component when painting. This makes the cost of resizing the
+     * component independent of its size.</p>
+     * <p>
+     * <strong>Notice: </strong>circles, uiid borders and stroked borders other
+     * than pills are always fully rendered. Borders without a shadow are
+     * painted directly and don't use a raster at all.</p>
+     *
+     * @param nineSlice true to paint the border from a nine-slice atlas
+     * @return border instance so these calls can be chained
+     */
+    public RoundedBorder nineSlice(boolean nineSlice) {
+        checkMutable();
+        this.nineSlice = nineSlice;
+        return this;
+    }
+
     @Override
     public void paintBorderBackground(Graphics g, Component c) {
+        long start = StyleMetrics.start();
+        paintBackground(g, c);
+        StyleMetrics.borderPainted(start);
+    }
+
+    /**
+     * Renders the cached rasters of the border for the component by painting
+     * it into the given context, see {@link BorderWarmUp}. Borders that don't
+     * paint from the shared cache are skipped.
+     */
+    void warmUp(Graphics g, Component c) {
+        if (uiid || shadowOpacity == 0) {
+            return;
+        }
+        paintBackground(g, c);
+    }
+
+    private void paintBackground(Graphics g, Component c) {
         int w = c.getWidth();
         int h = c.getHeight();
         int x = c.getX();
         int y = c.getY();
-        if (w > 0 && h > 0) {
+        if (w <= 0 || h <= 0) {
+            return;
+        }
+
+        // uiid borders paint the component background so their raster can't be
+        // shared with other components and is kept on the component itself
+        if (uiid) {
             Image background = (Image) c.getClientProperty(CACHE_KEY + instanceVal);
             if (background != null && background.getWidth() == w && background.getHeight() == h) {
+                StyleMetrics.cacheHit();
                 g.drawImage(background, x, y);
                 return;
             }
-        } else {
+            StyleMetrics.cacheMiss();
+            Image target = rasterize(c, w, h, w, h);
+            g.drawImage(target, x, y);
+            c.putClientProperty(CACHE_KEY + instanceVal, target);
             return;
         }
 
-        Image target = Image.createImage(w, h, 0);
+        // without a shadow the shape is cheaper to paint directly than to blit,
+        // a translucent graphics context still goes through the raster so the
+        // component opacity is applied to the shape as a whole
+        if (shadowOpacity == 0 && g.getAlpha() == 255) {
+            paintDirect(g, x, y, w, h, cornerRadius(w, h));
+            return;
+        }
 
-        int shapeX = 0;
-        int shapeY = 0;
+        if (nineSlice && paintNineSlice(g, c, x, y, w, h)) {
+            return;
+        }
+
+        // the shadow is cached as a mask that doesn't depend on the colors so
+        // a border that only differs in color reuses the blurred shadow and
+        // paints its shape on top of it
+        if (g.getAlpha() == 255) {
+            paintShadowed(g, c, x, y, w, h);
+            return;
+        }
+
+        PROBE.set(this, w, h, -1);
+        Image background = (Image) cache.get(PROBE);
+        if (background == null) {
+            StyleMetrics.cacheMiss();
+            background = rasterize(c, w, h, w, h);
+            cache.put(PROBE.copy(), background, w * h * 4);
+        } else {
+            StyleMetrics.cacheHit();
+        }
+        g.drawImage(background, x, y);
+    }
+
+    /**
+     * Paints the shape straight onto the graphics context without an
+     * intermediate image
+     */
+    private void paintDirect(Graphics g, int x, int y, int w, int h, int rad) {
+        int oldColor = g.getColor();
+        boolean oldAntiAliased = g.isAntiAliased();
+        g.setAntiAliased(true);
+        g.translate(x, y);
+        fillShape(g, color, opacity, w, h, rad, true);
+        g.translate(-x, -y);
+        g.setAlpha(255);
+        g.setColor(oldColor);
+        g.setAntiAliased(oldAntiAliased);
+    }
+
+    /**
+     * Paints the shadow from a cached mask and the shape directly on top of
+     * it, the shape is placed the same way {@link #rasterize} places it. A
+     * mask kept in {@link MaskStore} is read in the background and the shape
+     * is painted without its shadow until the component is repainted.
+     */
+    private void paintShadowed(Graphics g, Component c, int x, int y, int w, int h) {
+        int shadowSpreadL = shadowSpreadPixels();
         int shapeW = w;
         int shapeH = h;
+        shapeW -= shadowSpreadL;
+        shapeW -= (shadowBlur / 2);
+        shapeH -= shadowSpreadL;
+        shapeH -= (shadowBlur / 2);
+        int shapeX = Math.round((shadowSpreadL + (shadowBlur / 2)) * shadowX);
+        int shapeY = Math.round((shadowSpreadL + (shadowBlur / 2)) * shadowY);
+
+        if (shadowSpreadL > 0) {
+            PROBE.setMask(this, w, h);
+            Image mask = (Image) cache.get(PROBE);
+            if (mask == null) {
+                StyleMetrics.cacheMiss();
+                int rad = cornerRadius(w, h);
+                int[] params = maskParams(w, h, rad, shadowSpreadL);
+                if (MaskStore.contains(params)) {
+                    MaskStore.fetch(params, w, h, new MaskLoaded(PROBE.copy(), c));
+                } else {
+                    // the image copies the pixels, the store returns the
+                    // buffer to the pool once it is encoded
+                    int[] argb = renderShadow(w, h, rad, shadowSpreadL);
+                    mask = Image.createImage(argb, w, h);
+                    MaskStore.store(params, argb, w, h);
+                    cache.put(PROBE.copy(), mask, w * h * 4);
+                }
+            } else {
+                StyleMetrics.cacheHit();
+            }
+            if (mask != null) {
+                g.drawImage(mask, x, y);
+            }
+        }
+        paintDirect(g, x + shapeX, y + shapeY, shapeW, shapeH, cornerRadius(shapeW, shapeH));
+    }
+
+    /**
+     * Paints the border from a nine-slice atlas whose corners are rendered once
+     * and whose edges and center are stretched to the size of the component.
+     *
+     * @return false if the shape can't be sliced and has to be fully rendered
+     */
+    private boolean paintNineSlice(Graphics g, Component c, int x, int y, int w, int h) {
+        int shapeW = w;
+        int shapeH = h;
+        int pad = 0;
+        if (shadowOpacity > 0) {
+            int shadowSpreadL = shadowSpreadPixels();
+            shapeW -= shadowSpreadL;
+            shapeW -= (shadowBlur / 2);
+            shapeH -= shadowSpreadL;
+            shapeH -= (shadowBlur / 2);
+            pad = shadowSpreadL + (int) Math.ceil(shadowBlur);
+        }
+        boolean pill = rectangle && shapeW > shapeH;
+        if (!pill && (roundedPosition == 0 || stroke != null)) {
+            // circles and stroked arcs can't be stretched, the stroke of a pill
+            // follows its straight edges so it can
+            return false;
+        }
+        int rad = pill ? 0 : cornerRadius(shapeW, shapeH);
+        int edge = pad + (pill ? (shapeH + 1) / 2 : rad) + 1;
+        if (stroke != null) {
+            edge += (int) Math.ceil(stroke.getLineWidth());
+        }
+        boolean sliceX = w > edge * 2 + 1;
+        boolean sliceY = !pill && h > edge * 2 + 1;
+        if (!sliceX && !sliceY) {
+            return false;
+        }
+        int cw = sliceX ? edge * 2 + 1 : w;
+        int ch = sliceY ? edge * 2 + 1 : h;
+
+        // rasterize() derives the radius of the shadow from the full size
+        PROBE.setSlices(this, cw, ch, rad, shadowOpacity > 0 ? cornerRadius(w, h) : 0);
+        NineSlice atlas = (NineSlice) cache.get(PROBE);
+        if (atlas == null) {
+            StyleMetrics.cacheMiss();
+            atlas = new NineSlice(rasterize(c, w, h, cw, ch), sliceX ? edge : cw, sliceY ? edge : ch);
+            cache.put(PROBE.copy(), atlas, cw * ch * 4);
+        } else {
+            StyleMetrics.cacheHit();
+        }
+        atlas.paint(g, x, y, w, h);
+        return true;
+    }
+
+    /**
+     * Renders the border into a new image of cw x ch pixels. The corner radius
+     * is always derived from the real component size w x h so a smaller canvas
+     * can be used to render the corners and edges of a nine-slice atlas.
+     */
+    private Image rasterize(Component c, int w, int h, int cw, int ch) {
+        Image target = Image.createImage(cw, ch, 0);
+
+        int shapeX = 0;
+        int shapeY = 0;
+        int shapeW = cw;
+        int shapeH = ch;
+        int realShapeW = w;
+        int realShapeH = h;
 
         Graphics tg = target.getGraphics();
         tg.setAntiAliased(true);
 
-        int shadowSpreadL = shadowSpread;
-        if (shadowMM) {
-            shadowSpreadL = CN.convertToPixels(shadowSpreadL);
-        }
+        int shadowSpreadL = shadowSpreadPixels();
 
         if (shadowOpacity > 0) {
             shapeW -= shadowSpreadL;
             shapeW -= (shadowBlur / 2);
             shapeH -= shadowSpreadL;
             shapeH -= (shadowBlur / 2);
+            realShapeW -= shadowSpreadL;
+            realShapeW -= (shadowBlur / 2);
+            realShapeH -= shadowSpreadL;
+            realShapeH -= (shadowBlur / 2);
             shapeX += Math.round((shadowSpreadL + (shadowBlur / 2)) * shadowX);
             shapeY += Math.round((shadowSpreadL + (shadowBlur / 2)) * shadowY);
 
-            // draw a gradient of sort for the shadow
-            for (int iter = shadowSpreadL - 1; iter >= 0; iter--) {
-                tg.translate(iter, iter);
-                fillShape(tg, 0, shadowOpacity / shadowSpreadL, w - (iter * 2), h - (iter * 2), false);
-                tg.translate(-iter, -iter);
-            }
-            if (Display.getInstance().isGaussianBlurSupported()) {
-                Image blured = Display.getInstance().gaussianBlurImage(target, shadowBlur);
-                target = Image.createImage(w, h, 0);
-                tg = target.getGraphics();
-                tg.drawImage(blured, 0, 0);
-                tg.setAntiAliased(true);
+            if (shadowSpreadL > 0) {
+                paintShadow(tg, cw, ch, cornerRadius(w, h), shadowSpreadL);
             }
         }
         tg.translate(shapeX, shapeY);
@@ -458,23 +858,110 @@ public class RoundedBorder extends Border {
             c.getStyle().getBgPainter().paint(tg, new Rectangle(0, 0, w, h));
             c.getStyle().setBorder(this);
         } else {
-            fillShape(tg, color, opacity, shapeW, shapeH, true);
+            fillShape(tg, color, opacity, shapeW, shapeH, cornerRadius(realShapeW, realShapeH), true);
         }
-        g.drawImage(target, x, y);
-        c.putClientProperty(CACHE_KEY + instanceVal, target);
+        return target;
     }
 
     @Override
     public int getMinimumHeight() {
-        return shadowSpread + Math.round(shadowBlur) + CN.convertToPixels(1);
+        return shadowSpread + Math.round(shadowBlur) + Units.toPixels(1);
     }
 
     @Override
     public int getMinimumWidth() {
-        return shadowSpread + Math.round(shadowBlur) + CN.convertToPixels(1);
+        return shadowSpread + Math.round(shadowBlur) + Units.toPixels(1);
+    }
+
+    /**
+     * Paints the shadow below the shape in a single pass over the pixels, see
+     * {@link ShadowRenderer}
+     */
+    private void paintShadow(Graphics tg, int cw, int ch, int rad, int shadowSpreadL) {
+        int[] argb = renderShadow(cw, ch, rad, shadowSpreadL);
+        tg.drawRGB(argb, 0, 0, 0, cw, ch, true);
+        ScratchBuffers.release(argb);
+    }
+
+    /**
+     * The values the shadow mask depends on, they identify the mask in
+     * {@link MaskStore}
+     */
+    private int[] maskParams(int w, int h, int rad, int shadowSpreadL) {
+        float blur = Display.getInstance().isGaussianBlurSupported() ? shadowBlur : 0;
+        return new int[]{w, h, rad, shadowSpreadL, shadowOpacity, Float.floatToIntBits(blur),
+            roundedPosition, rectangle ? 1 : 0, Display.getInstance().getDeviceDensity()};
+    }
+
+    /**
+     * Renders the shadow of the shape into ARGB pixels, the shadow is black
+     * so only the alpha channel varies. The buffer comes from
+     * {@link ScratchBuffers} and may be larger than cw x ch.
+     */
+    private int[] renderShadow(int cw, int ch, int rad, int shadowSpreadL) {
+        float blur = Display.getInstance().isGaussianBlurSupported() ? shadowBlur : 0;
+        ShadowRenderer shadow = ShadowRenderer.get(shadowSpreadL, shadowOpacity, blur);
+        // the renderers write every pixel so the buffer isn't cleared
+        int[] argb = ScratchBuffers.acquire(cw * ch, false);
+        if (rectangle && cw > ch) {
+            int half = ch / 2;
+            shadow.renderRect(argb, cw, ch, half, half, half, half);
+        } else {
+            switch (roundedPosition) {
+                case 0:
+                    shadow.renderCircle(argb, cw, ch);
+                    break;
+                case 1:
+                    shadow.renderRect(argb, cw, ch, rad, rad, 0, 0);
+                    break;
+                case 2:
+                    shadow.renderRect(argb, cw, ch, 0, 0, rad, rad);
+                    break;
+                case 3:
+                    shadow.renderRect(argb, cw, ch, rad, 0, 0, rad);
+                    break;
+                case 4:
+                    shadow.renderRect(argb, cw, ch, 0, rad, rad, 0);
+                    break;
+                case 5:
+                    shadow.renderRect(argb, cw, ch, rad, 0, 0, 0);
+                    break;
+                case 6:
+                    shadow.renderRect(argb, cw, ch, 0, rad, 0, 0);
+                    break;
+                case 7:
+                    shadow.renderRect(argb, cw, ch, 0, 0, 0, rad);
+                    break;
+                case 8:
+                    shadow.renderRect(argb, cw, ch, 0, 0, rad, 0);
+                    break;
+                default:
+                    // fillRoundRect takes the diameter of the corner arcs
+                    shadow.renderRect(argb, cw, ch, rad / 2, rad / 2, rad / 2, rad / 2);
+                    break;
+            }
+        }
+        return argb;
     }
 
-    private void fillShape(Graphics g, int color, int opacity, int width, int height, boolean stroke) {
+    private int shadowSpreadPixels() {
+        if (shadowMM) {
+            return Units.toPixels(shadowSpread);
+        }
+        return shadowSpread;
+    }
+
+    private int cornerRadius(int width, int height) {
+        return Math.round(this.radius * Math.min(width, height) / 100);
+    }
+
+    private void fillShape(Graphics g, int color, int opacity, int width, int height, int rad, boolean stroke) {
+        long start = StyleMetrics.start();
+        paintShape(g, color, opacity, width, height, rad, stroke);
+        StyleMetrics.shapeFilled(start);
+    }
+
+    private void paintShape(Graphics g, int color, int opacity, int width, int height, int rad, boolean stroke) {
         g.setColor(color);
         if (opacity >= 0 && opacity <= 255) {
             g.setAlpha(opacity);
@@ -501,7 +988,6 @@ public class RoundedBorder extends Border {
                 g.drawShape(arc, this.stroke);
             } else {
                 GeneralPath gp = new GeneralPath();
-                int rad = Math.round(this.radius * size / 100);
                 switch (this.roundedPosition) {
                     case 0:
                         g.fillArc(x, y, size, size, 0, 360);
@@ -819,10 +1305,41 @@ public class RoundedBorder extends Border {
         return rectangle;
     }
 
+    /**
+     * True if the border is painted from a nine-slice atlas instead of a raster
+     * of the full component size
+     *
+     * @return the nineSlice
+     */
+    public boolean isNineSlice() {
+        return nineSlice;
+    }
+
     @Override
     public int hashCode() {
         int hash = 5;
         hash = 43 * hash + this.color;
+        hash = 43 * hash + this.opacity;
+        hash = 43 * hash + this.strokeColor;
+        hash = 43 * hash + this.strokeOpacity;
+        hash = 43 * hash + Float.floatToIntBits(this.strokeThickness);
+        hash = 43 * hash + (this.strokeMM ? 1 : 0);
+        if (this.stroke != null) {
+            hash = 43 * hash + Float.floatToIntBits(this.stroke.getLineWidth());
+            hash = 43 * hash + this.stroke.getCapStyle();
+            hash = 43 * hash + this.stroke.getJoinStyle();
+        }
+        hash = 43 * hash + this.shadowSpread;
+        hash = 43 * hash + this.shadowOpacity;
+        hash = 43 * hash + Float.floatToIntBits(this.shadowX);
+        hash = 43 * hash + Float.floatToIntBits(this.shadowY);
+        hash = 43 * hash + Float.floatToIntBits(this.shadowBlur);
+        hash = 43 * hash + (this.shadowMM ? 1 : 0);
+        hash = 43 * hash + this.roundedPosition;
+        hash = 43 * hash + this.radius;
+        hash = 43 * hash + (this.rectangle ? 1 : 0);
+        hash = 43 * hash + (this.uiid ? 1 : 0);
+        hash = 43 * hash + (this.nineSlice ? 1 : 0);
         return hash;
     }
 
@@ -853,6 +1370,9 @@ public class RoundedBorder extends Border {
         if (this.strokeMM != other.strokeMM) {
             return false;
         }
+        if (!sameStroke(this.stroke, other.stroke)) {
+            return false;
+        }
         if (this.shadowSpread != other.shadowSpread) {
             return false;
         }
@@ -871,10 +1391,300 @@ public class RoundedBorder extends Border {
         if (this.shadowMM != other.shadowMM) {
             return false;
         }
+        if (this.roundedPosition != other.roundedPosition) {
+            return false;
+        }
+        if (this.radius != other.radius) {
+            return false;
+        }
         if (this.rectangle != other.rectangle) {
             return false;
         }
+        if (this.uiid != other.uiid) {
+            return false;
+        }
+        if (this.nineSlice != other.nineSlice) {
+            return false;
+        }
         return true;
     }
 
+    private static boolean sameStroke(Stroke a, Stroke b) {
+        if (a == b) {
+            return true;
+        }
+        if (a == null || b == null) {
+            return false;
+        }
+        return a.getLineWidth() == b.getLineWidth()
+                && a.getCapStyle() == b.getCapStyle()
+                && a.getJoinStyle() == b.getJoinStyle()
+                && a.getMiterLimit() == b.getMiterLimit();
+    }
+
+    /**
+     * The nine regions of a border raster, the corners are painted as is while
+     * the edges and the center are stretched to fill the component
+     */
+    private static final class NineSlice {
+
+        final Image[] parts = new Image[9];
+        final int left;
+        final int right;
+        final int top;
+        final int bottom;
+
+        NineSlice(Image canvas, int left, int top) {
+            int cw = canvas.getWidth();
+            int ch = canvas.getHeight();
+            this.left = left;
+            this.top = top;
+            right = left < cw ? left : 0;
+            bottom = top < ch ? top : 0;
+            int[] xs = {0, left, cw - right};
+            int[] ws = {left, cw - left - right, right};
+            int[] ys = {0, top, ch - bottom};
+            int[] hs = {top, ch - top - bottom, bottom};
+            for (int row = 0; row < 3; row++) {
+                for (int col = 0; col < 3; col++) {
+                    if (ws[col] > 0 && hs[row] > 0) {
+                        parts[row * 3 + col] = canvas.subImage(xs[col], ys[row], ws[col], hs[row], true);
+                    }
+                }
+            }
+        }
+
+        void paint(Graphics g, int x, int y, int w, int h) {
+            int[] xs = {x, x + left, x + w - right};
+            int[] ws = {left, w - left - right, right};
+            int[] ys = {y, y + top, y + h - bottom};
+            int[] hs = {top, h - top - bottom, bottom};
+            for (int row = 0; row < 3; row++) {
+                for (int col = 0; col < 3; col++) {
+                    Image part = parts[row * 3 + col];
+                    if (part == null) {
+                        continue;
+                    }
+                    if (part.getWidth() == ws[col] && part.getHeight() == hs[row]) {
+                        g.drawImage(part, xs[col], ys[row]);
+                    } else {
+                        g.drawImage(part, xs[col], ys[row], ws[col], hs[row]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Caches a mask read from {@link MaskStore} and repaints the component
+     * that asked for it
+     */
+    private static final class MaskLoaded implements MaskStore.Loaded {
+
+        private final RasterKey key;
+
+        private final Component cmp;
+
+        MaskLoaded(RasterKey key, Component cmp) {
+            this.key = key;
+            this.cmp = cmp;
+        }
+
+        public void loaded(Image mask) {
+            if (mask != null && cache.get(key) == null) {
+                cache.put(key, mask, key.width * key.height * 4);
+            }
+            // a mask that couldn't be read is rendered on the next paint
+            cmp.repaint();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof MaskLoaded && ((MaskLoaded) obj).cmp == cmp
+                    && ((MaskLoaded) obj).key.equals(key);
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode();
+        }
+    }
+
+    /**
+     * Identifies a raster by every parameter that affects its pixels so
+     * identical borders on different components share one image
+     */
+    private static final class RasterKey {
+
+        // the corner of the keys of shadow masks
+        static final int MASK = -2;
+
+        int color;
+        int opacity;
+        int strokeColor;
+        int strokeOpacity;
+        float strokeWidth;
+        int strokeCap;
+        int strokeJoin;
+        int shadowSpread;
+        int shadowOpacity;
+        float shadowX;
+        float shadowY;
+        float shadowBlur;
+        int roundedPosition;
+        int radius;
+        boolean rectangle;
+        int width;
+        int height;
+        int density;
+        int corner;
+        // the corner radius of the shadow of a nine-slice atlas, it follows
+        // the full component size rather than the size of the atlas
+        int shadowCorner;
+        int hash;
+
+        void set(RoundedBorder b, int width, int height, int corner) {
+            color = b.color;
+            opacity = b.opacity;
+            if (b.stroke != null) {
+                strokeColor = b.strokeColor;
+                strokeOpacity = b.strokeOpacity;
+                strokeWidth = b.stroke.getLineWidth();
+                strokeCap = b.stroke.getCapStyle();
+                strokeJoin = b.stroke.getJoinStyle();
+            } else {
+                strokeColor = 0;
+                strokeOpacity = 0;
+                strokeWidth = 0;
+                strokeCap = 0;
+                strokeJoin = 0;
+            }
+            shadowSpread = b.shadowSpreadPixels();
+            shadowOpacity = b.shadowOpacity;
+            shadowX = b.shadowX;
+            shadowY = b.shadowY;
+            shadowBlur = b.shadowBlur;
+            roundedPosition = b.roundedPosition;
+            radius = b.radius;
+            rectangle = b.rectangle;
+            this.width = width;
+            this.height = height;
+            density = Display.getInstance().getDeviceDensity();
+            this.corner = corner;
+            shadowCorner = 0;
+            rehash();
+        }
+
+        /**
+         * Identifies a nine-slice atlas, the corners of its shape and of its
+         * shadow are rendered with different radii
+         */
+        void setSlices(RoundedBorder b, int width, int height, int corner, int shadowCorner) {
+            set(b, width, height, corner);
+            this.shadowCorner = shadowCorner;
+            rehash();
+        }
+
+        /**
+         * Identifies the shadow mask of a border, the colors, the stroke and
+         * the offset of the shape don't affect it
+         */
+        void setMask(RoundedBorder b, int width, int height) {
+            set(b, width, height, MASK);
+            color = 0;
+            opacity = 0;
+            strokeColor = 0;
+            strokeOpacity = 0;
+            strokeWidth = 0;
+            strokeCap = 0;
+            strokeJoin = 0;
+            shadowX = 0;
+            shadowY = 0;
+            rehash();
+        }
+
+        private void rehash() {
+            int h = color;
+            h = 31 * h + opacity;
+            h = 31 * h + strokeColor;
+            h = 31 * h + strokeOpacity;
+            h = 31 * h + Float.floatToIntBits(strokeWidth);
+            h = 31 * h + strokeCap;
+            h = 31 * h + strokeJoin;
+            h = 31 * h + shadowSpread;
+            h = 31 * h + shadowOpacity;
+            h = 31 * h + Float.floatToIntBits(shadowX);
+            h = 31 * h + Float.floatToIntBits(shadowY);
+            h = 31 * h + Float.floatToIntBits(shadowBlur);
+            h = 31 * h + roundedPosition;
+            h = 31 * h + radius;
+            h = 31 * h + (rectangle ? 1 : 0);
+            h = 31 * h + width;
+            h = 31 * h + height;
+            h = 31 * h + density;
+            h = 31 * h + corner;
+            h = 31 * h + shadowCorner;
+            hash = h;
+        }
+
+        RasterKey copy() {
+            RasterKey k = new RasterKey();
+            k.color = color;
+            k.opacity = opacity;
+            k.strokeColor = strokeColor;
+            k.strokeOpacity = strokeOpacity;
+            k.strokeWidth = strokeWidth;
+            k.strokeCap = strokeCap;
+            k.strokeJoin = strokeJoin;
+            k.shadowSpread = shadowSpread;
+            k.shadowOpacity = shadowOpacity;
+            k.shadowX = shadowX;
+            k.shadowY = shadowY;
+            k.shadowBlur = shadowBlur;
+            k.roundedPosition = roundedPosition;
+            k.radius = radius;
+            k.rectangle = rectangle;
+            k.width = width;
+            k.height = height;
+            k.density = density;
+            k.corner = corner;
+            k.shadowCorner = shadowCorner;
+            k.hash = hash;
+            return k;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof RasterKey)) {
+                return false;
+            }
+            RasterKey k = (RasterKey) obj;
+            return hash == k.hash
+                    && color == k.color
+                    && opacity == k.opacity
+                    && strokeColor == k.strokeColor
+                    && strokeOpacity == k.strokeOpacity
+                    && strokeWidth == k.strokeWidth
+                    && strokeCap == k.strokeCap
+                    && strokeJoin == k.strokeJoin
+                    && shadowSpread == k.shadowSpread
+                    && shadowOpacity == k.shadowOpacity
+                    && shadowX == k.shadowX
+                    && shadowY == k.shadowY
+                    && shadowBlur == k.shadowBlur
+                    && roundedPosition == k.roundedPosition
+                    && radius == k.radius
+                    && rectangle == k.rectangle
+                    && width == k.width
+                    && height == k.height
+                    && density == k.density
+                    && corner == k.corner
+                    && shadowCorner == k.shadowCorner;
+        }
+    }
 }
@@ -0,0 +1,211 @@
+package com.diamonddevgroup.utils;
+
+import com.codename1.ui.Display;
+import com.codename1.ui.EncodedImage;
+import com.codename1.ui.Graphics;
+import com.codename1.ui.Image;
+import com.codename1.ui.Painter;
+import com.codename1.ui.geom.Rectangle;
+
+/**
+ * Paints a background image scaled to fill the component, like
+ * {@code Style.BACKGROUND_IMAGE_SCALED_FILL}, from a copy rendered at the size
+ * of the component in pixels. The copy is kept in a shared byte budgeted cache
+ * so the image isn't scaled again on every paint. Encoded sources are decoded
+ * only to render a missing copy, the full resolution image isn't held by the
+ * style.
+ * <br><br>
+ * A decoded image can't be decoded again, so the painter keeps a copy of it
+ * scaled down to cover the first size painted and drops the full resolution
+ * image. The other sizes are rendered from that copy, sizes larger than the
+ * first one are scaled up from it.
+ * <br><br>
+ * Painters are equal when they paint the same source so reapplying a chain or
+ * a spec doesn't replace the painter of a styled component.
+ * <br><br>
+ * This class isn't thread safe, it is meant to be used from the EDT only.
+ *
+ * @author Diamond
+ */
+final class ScaledBackground implements Painter {
+
+    /**
+     * The default size of the shared cache in bytes
+     */
+    static final int DEFAULT_CACHE_BUDGET = 8 * 1024 * 1024;
+
+    private static final RasterCache cache = new RasterCache(DEFAULT_CACHE_BUDGET);
+
+    // painting happens on the EDT so a single key instance is reused for lookups
+    private static final Key PROBE = new Key();
+
+    // an Image, an EncodedImage or the bytes of an encoded image, a decoded
+    // image is replaced by its reduced copy once the first copy is rendered
+    private Object source;
+
+    // the source compared by equals(), a reference from
+    // Display.createSoftWeakRef() for decoded images
+    private final Object identity;
+    private final boolean decoded;
+    private final int hash;
+
+    // the key of the copies in the cache, encoded sources share their copies
+    // between painters
+    private final Object key;
+
+    ScaledBackground(Object source) {
+        this.source = source;
+        hash = System.identityHashCode(source);
+        decoded = isDecoded(source);
+        if (decoded) {
+            identity = Display.getInstance().createSoftWeakRef(source);
+            key = this;
+        } else {
+            identity = source;
+            key = source;
+        }
+    }
+
+    private static boolean isDecoded(Object source) {
+        return source instanceof Image && !(source instanceof EncodedImage);
+    }
+
+    private Object original() {
+        return decoded ? Display.getInstance().extractHardRef(identity) : identity;
+    }
+
+    static RasterCache getCache() {
+        return cache;
+    }
+
+    public void paint(Graphics g, Rectangle rect) {
+        int w = rect.getWidth();
+        int h = rect.getHeight();
+        if (w <= 0 || h <= 0) {
+            return;
+        }
+        Image scaled = lookup(key, w, h);
+        if (scaled == null) {
+            scaled = render(source, w, h);
+            if (scaled == null) {
+                return;
+            }
+            store(key, w, h, scaled);
+            if (isDecoded(source) && source == original()) {
+                reduce(w, h);
+            }
+        }
+        g.drawImage(scaled, rect.getX(), rect.getY());
+    }
+
+    /**
+     * Replaces the full resolution image by a copy that keeps its aspect ratio
+     * and just covers the given size, so every crop of fill() stays possible
+     */
+    private void reduce(int w, int h) {
+        Image full = (Image) source;
+        int iw = full.getWidth();
+        int ih = full.getHeight();
+        if (iw <= 0 || ih <= 0) {
+            return;
+        }
+        float scale = Math.max(w / (float) iw, h / (float) ih);
+        if (scale < 1) {
+            source = full.scaled(Math.max(1, Math.round(iw * scale)), Math.max(1, Math.round(ih * scale)));
+        }
+    }
+
+    /**
+     * Returns the cached copy of the source at the given size
+     *
+     * @param source the source, compared with equals
+     * @return the copy or null if it isn't in the cache
+     */
+    static Image lookup(Object source, int w, int h) {
+        PROBE.set(source, w, h);
+        return (Image) cache.get(PROBE);
+    }
+
+    /**
+     * Adds a copy of the source at the given size to the cache
+     */
+    static void store(Object source, int w, int h, Image scaled) {
+        Key key = new Key();
+        key.set(source, w, h);
+        cache.put(key, scaled, w * h * 4);
+    }
+
+    /**
+     * Decodes the source if needed and scales it to fill the given size, the
+     * decoded image is dropped once the copy is rendered. This doesn't touch
+     * the cache so it can run off the EDT.
+     *
+     * @param source an Image, an EncodedImage or the bytes of an encoded image
+     * @return the copy or null if the source couldn't be decoded
+     */
+    static Image render(Object source, int w, int h) {
+        Image full;
+        if (source instanceof EncodedImage) {
+            byte[] data = ((EncodedImage) source).getImageData();
+            full = Image.createImage(data, 0, data.length);
+        } else if (source instanceof byte[]) {
+            byte[] data = (byte[]) source;
+            full = Image.createImage(data, 0, data.length);
+        } else {
+            full = (Image) source;
+        }
+        if (full == null) {
+            return null;
+        }
+        return full.fill(w, h);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof ScaledBackground)) {
+            return false;
+        }
+        ScaledBackground other = (ScaledBackground) obj;
+        Object original = original();
+        return hash == other.hash && original != null && original == other.original();
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * The source and the size of a rendered copy, images and bytes are
+     * compared by identity and the names of loaded images by value
+     */
+    private static final class Key {
+
+        private Object source;
+        private int width;
+        private int height;
+
+        void set(Object source, int width, int height) {
+            this.source = source;
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return source.equals(other.source) && width == other.width && height == other.height;
+        }
+
+        @Override
+        public int hashCode() {
+            return (source.hashCode() * 31 + width) * 31 + height;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.diamonddevgroup.utils;
+
+import java.util.Arrays;
+
+/**
+ * A pool of the pixel buffers used while rendering the shadows of the rounded
+ * borders. The buffers only live until their pixels are drawn or copied into
+ * an image, a list of cards scrolling into view for the first time would
+ * otherwise allocate and drop one buffer the size of each card.
+ * <br><br>
+ * The buffers are bucketed by their size rounded up to a power of two and one
+ * buffer is kept per bucket, buffers larger than 2MB aren't kept at all so
+ * the pool never holds more than 4MB.
+ * <br><br>
+ * This class isn't thread safe, it is meant to be used from the EDT only.
+ *
+ * @author Diamond
+ */
+final class ScratchBuffers {
+
+    // the largest pooled buffer is 2^19 ints, 2MB
+    private static final int BUCKETS = 20;
+
+    private static final int[][] pool = new int[BUCKETS][];
+
+    private ScratchBuffers() {
+    }
+
+    /**
+     * Returns a buffer of at least the given size, the buffer must be
+     * returned with {@link #release(int[])} once its pixels were used
+     *
+     * @param size the number of pixels needed
+     * @param clear true to set the first size pixels to 0, renderers that
+     * write every pixel pass false
+     * @return the buffer, it may be larger than requested
+     */
+    static int[] acquire(int size, boolean clear) {
+        int bucket = bucket(size);
+        if (bucket >= BUCKETS) {
+            return new int[size];
+        }
+        int[] buffer = pool[bucket];
+        if (buffer == null) {
+            return new int[1 << bucket];
+        }
+        pool[bucket] = null;
+        if (clear) {
+            Arrays.fill(buffer, 0, size, 0);
+        }
+        return buffer;
+    }
+
+    /**
+     * Returns a buffer to the pool, it must not be used afterwards
+     *
+     * @param buffer a buffer from {@link #acquire(int, boolean)}
+     */
+    static void release(int[] buffer) {
+        int bucket = bucket(buffer.length);
+        if (bucket < BUCKETS && buffer.length == 1 << bucket) {
+            pool[bucket] = buffer;
+        }
+    }
+
+    /**
+     * Drops every pooled buffer
+     */
+    static void clear() {
+        for (int iter = 0; iter < BUCKETS; iter++) {
+            pool[iter] = null;
+        }
+    }
+
+    /**
+     * The power of two of the smallest bucket holding the size
+     */
+    private static int bucket(int size) {
+        int bucket = 0;
+        while (bucket < 31 && (1 << bucket) < size) {
+            bucket++;
+        }
+        return bucket;
+    }
+}
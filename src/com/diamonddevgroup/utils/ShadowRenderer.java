@@ -0,0 +1,179 @@
+package com.diamonddevgroup.utils;
+
+import com.codename1.util.MathUtil;
+
+/**
+ * Renders the drop shadow of a rounded border in a single pass over the pixels.
+ * <br><br>
+ * The shadow used to be drawn by stacking one translucent shape per pixel of
+ * spread and blurring the result. Stacking n layers of alpha a gives the
+ * pixels at a distance d from the edge an alpha of 1 - (1 - a)^(d + 1) and
+ * blurring smooths that profile across the edge. Both only depend on the
+ * distance to the edge of the shape so the profile is computed once into a
+ * one dimensional ramp that is then looked up per pixel.
+ *
+ * @author Diamond
+ */
+final class ShadowRenderer {
+
+    // the shadow parameters rarely change so only the last ramp is kept
+    private static ShadowRenderer last;
+
+    private final int spread;
+    private final int opacity;
+    private final float blur;
+
+    /**
+     * The ARGB value of the shadow indexed by the distance from the edge of the
+     * shape plus the offset
+     */
+    private final int[] ramp;
+
+    private final int offset;
+
+    private ShadowRenderer(int spread, int opacity, float blur) {
+        this.spread = spread;
+        this.opacity = opacity;
+        this.blur = blur;
+
+        int kernel = (int) Math.ceil(blur);
+        offset = kernel;
+        ramp = new int[spread + kernel * 2 + 1];
+
+        // the alpha of the stacked layers at each distance from the edge
+        double layerAlpha = (opacity / spread) / 255.0;
+        double[] layers = new double[ramp.length + kernel * 2];
+        double transparency = 1;
+        for (int iter = 0; iter < layers.length; iter++) {
+            int distance = iter - kernel * 2;
+            if (distance >= 0 && distance < spread) {
+                transparency *= 1 - layerAlpha;
+            }
+            layers[iter] = distance < 0 ? 0 : 1 - transparency;
+        }
+
+        double[] weights = new double[kernel * 2 + 1];
+        if (kernel == 0) {
+            weights[0] = 1;
+        } else {
+            double sigma = blur / 3;
+            double total = 0;
+            for (int iter = -kernel; iter <= kernel; iter++) {
+                double w = MathUtil.exp(-(iter * iter) / (2 * sigma * sigma));
+                weights[iter + kernel] = w;
+                total += w;
+            }
+            for (int iter = 0; iter < weights.length; iter++) {
+                weights[iter] /= total;
+            }
+        }
+
+        for (int iter = 0; iter < ramp.length; iter++) {
+            double alpha = 0;
+            for (int k = 0; k < weights.length; k++) {
+                alpha += weights[k] * layers[iter + k];
+            }
+            int a = (int) Math.round(alpha * 255);
+            ramp[iter] = Math.min(255, Math.max(0, a)) << 24;
+        }
+    }
+
+    /**
+     * Returns a renderer for the given shadow parameters
+     *
+     * @param spread the spread of the shadow in pixels, must be positive
+     * @param opacity the opacity of the shadow between 0 and 255
+     * @param blur the Gaussian blur radius or 0 for no blur
+     * @return the renderer
+     */
+    static ShadowRenderer get(int spread, int opacity, float blur) {
+        ShadowRenderer r = last;
+        if (r == null || r.spread != spread || r.opacity != opacity || r.blur != blur) {
+            r = new ShadowRenderer(spread, opacity, blur);
+            last = r;
+        }
+        return r;
+    }
+
+    /**
+     * Drops the cached ramp
+     */
+    static void clear() {
+        last = null;
+    }
+
+    /**
+     * Renders the shadow of a rectangle with rounded corners filling the
+     * whole buffer. Each corner radius may be 0 for a square corner.
+     *
+     * @param argb the buffer of width x height pixels
+     * @param width the width of the shape
+     * @param height the height of the shape
+     * @param topLeft the radius of the top left corner
+     * @param topRight the radius of the top right corner
+     * @param bottomRight the radius of the bottom right corner
+     * @param bottomLeft the radius of the bottom left corner
+     */
+    void renderRect(int[] argb, int width, int height, int topLeft, int topRight, int bottomRight, int bottomLeft) {
+        int max = Math.min(width, height) / 2;
+        float tl = Math.min(topLeft, max);
+        float tr = Math.min(topRight, max);
+        float br = Math.min(bottomRight, max);
+        float bl = Math.min(bottomLeft, max);
+        int pos = 0;
+        for (int y = 0; y < height; y++) {
+            float cy = y + 0.5f;
+            float dy = Math.min(cy, height - cy);
+            for (int x = 0; x < width; x++) {
+                float cx = x + 0.5f;
+                float d = Math.min(Math.min(cx, width - cx), dy);
+                if (cx < tl && cy < tl) {
+                    d = corner(cx, cy, tl, tl, tl);
+                } else if (cx > width - tr && cy < tr) {
+                    d = corner(cx, cy, width - tr, tr, tr);
+                } else if (cx > width - br && cy > height - br) {
+                    d = corner(cx, cy, width - br, height - br, br);
+                } else if (cx < bl && cy > height - bl) {
+                    d = corner(cx, cy, bl, height - bl, bl);
+                }
+                argb[pos++] = lookup(d);
+            }
+        }
+    }
+
+    /**
+     * Renders the shadow of a circle centered in the buffer
+     *
+     * @param argb the buffer of width x height pixels
+     * @param width the width of the buffer
+     * @param height the height of the buffer
+     */
+    void renderCircle(int[] argb, int width, int height) {
+        float r = Math.min(width, height) / 2f;
+        float centerX = width / 2f;
+        float centerY = height / 2f;
+        int pos = 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                argb[pos++] = lookup(corner(x + 0.5f, y + 0.5f, centerX, centerY, r));
+            }
+        }
+    }
+
+    private static float corner(float x, float y, float centerX, float centerY, float r) {
+        float dx = x - centerX;
+        float dy = y - centerY;
+        return r - (float) Math.sqrt(dx * dx + dy * dy);
+    }
+
+    private int lookup(float distance) {
+        int index = (int) (distance + offset);
+        if (index <= 0) {
+            return ramp[0];
+        }
+        if (index >= ramp.length) {
+            return ramp[ramp.length - 1];
+        }
+        return ramp[index];
+    }
+}
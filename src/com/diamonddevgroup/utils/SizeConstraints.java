@@ -0,0 +1,148 @@
+package com.diamonddevgroup.utils;
+
+import com.codename1.ui.CN;
+import com.codename1.ui.Component;
+import com.codename1.ui.Container;
+import com.codename1.ui.events.ActionListener;
+import com.codename1.ui.events.ComponentStateChangeEvent;
+import com.codename1.ui.geom.Dimension;
+import java.util.ArrayList;
+import java.util.HashSet;
+
+/**
+ * Minimum and maximum sizes of components evaluated after the current EDT
+ * task instead of when they are set. Reading the preferred size while the
+ * component is still being built measures it before its text and font are
+ * final and the fixed size then hides every later change. The constraints are
+ * kept in a client property and each component is measured once per pass
+ * from its natural preferred size.
+ * <br><br>
+ * Codename One has no preferred size hook short of subclassing the component
+ * so the clamped size is set as its preferred size. To keep following the
+ * content, a component is measured again when it is added to a shown form and
+ * when {@link Helper} or a {@link StyleSpec} restyles it. Nothing polls the
+ * component, changes of its text, icon or children need
+ * {@link Helper#refreshConstraints(Component...)}.
+ * <br><br>
+ * This class isn't thread safe, it is meant to be used from the EDT only.
+ *
+ * @author Diamond
+ */
+final class SizeConstraints {
+
+    // the client property holding the constraints of a component
+    private static final String KEY = "$SizeConstraints";
+
+    // the flags following the four constraints, see StyleSpec for the indexes
+    private static final int FLAGS = StyleSpec.CONSTRAINTS;
+    private static final int FIXED = 1;
+    private static final int QUEUED = 2;
+    private static final int LISTENING = 4;
+
+    private static final ArrayList<Component> pending = new ArrayList<Component>();
+
+    private static final Runnable pass = new Runnable() {
+        public void run() {
+            HashSet<Container> parents = new HashSet<Container>();
+            for (Component c : pending) {
+                evaluate(c);
+                Container parent = c.getParent();
+                if (parent != null) {
+                    parents.add(parent);
+                }
+            }
+            pending.clear();
+            for (Container parent : parents) {
+                parent.revalidateLater();
+            }
+        }
+    };
+
+    // measures a component again when it is added to a shown form
+    private static final ActionListener<ComponentStateChangeEvent> lifecycle = new ActionListener<ComponentStateChangeEvent>() {
+        public void actionPerformed(ComponentStateChangeEvent evt) {
+            if (evt.isInitialized()) {
+                refresh((Component) evt.getSource());
+            }
+        }
+    };
+
+    private SizeConstraints() {
+    }
+
+    /**
+     * Sets one of the constraints of the component and schedules its
+     * evaluation
+     *
+     * @param c the component
+     * @param index one of the constraint indexes of {@link StyleSpec}
+     * @param value the size in pixels or -1 to remove the constraint
+     */
+    static void set(Component c, int index, int value) {
+        int[] values = (int[]) c.getClientProperty(KEY);
+        if (values == null) {
+            values = new int[]{-1, -1, -1, -1, 0};
+            c.putClientProperty(KEY, values);
+        }
+        values[index] = value;
+        if ((values[FLAGS] & LISTENING) == 0) {
+            values[FLAGS] |= LISTENING;
+            c.addStateChangeListener(lifecycle);
+        }
+        schedule(c, values);
+    }
+
+    /**
+     * Measures the component again from its natural preferred size, needed
+     * after its content changed
+     *
+     * @param c the component
+     */
+    static void refresh(Component c) {
+        int[] values = (int[]) c.getClientProperty(KEY);
+        if (values != null) {
+            schedule(c, values);
+        }
+    }
+
+    private static void schedule(Component c, int[] values) {
+        if ((values[FLAGS] & QUEUED) != 0) {
+            return;
+        }
+        values[FLAGS] |= QUEUED;
+        if (pending.isEmpty()) {
+            CN.callSerially(pass);
+        }
+        pending.add(c);
+    }
+
+    private static void evaluate(Component c) {
+        int[] values = (int[]) c.getClientProperty(KEY);
+        if (values == null) {
+            return;
+        }
+        if ((values[FLAGS] & FIXED) != 0) {
+            // measure the content again rather than the size fixed last time
+            c.setPreferredSize(null);
+        }
+        values[FLAGS] &= LISTENING;
+        int w = c.getPreferredW();
+        int h = c.getPreferredH();
+        int width = clamp(w, values[StyleSpec.MIN_WIDTH], values[StyleSpec.MAX_WIDTH]);
+        int height = clamp(h, values[StyleSpec.MIN_HEIGHT], values[StyleSpec.MAX_HEIGHT]);
+        if (width != w || height != h) {
+            c.setPreferredSize(new Dimension(width, height));
+            values[FLAGS] |= FIXED;
+        }
+    }
+
+    private static int clamp(int size, int min, int max) {
+        if (max > -1 && size > max) {
+            size = max;
+        }
+        if (min > -1 && size < min) {
+            size = min;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,378 @@
+package com.diamonddevgroup.utils;
+
+import com.codename1.io.Log;
+import com.codename1.ui.CN;
+import java.util.Timer;
+import java.util.TimerTask;
+
+/**
+ * Counters of the styling work done by {@link Helper}, {@link StyleSpec} and
+ * {@link RoundedBorder}. The counters are plain fields updated on the EDT so
+ * they can be left on in release builds, {@link #snapshot()} copies them into
+ * an immutable instance.
+ * <br><br>
+ * <strong>Example:</strong><br>
+ * <code>StyleMetrics.startLogging(10000);<br>
+ * ...<br>
+ * StyleMetrics m = StyleMetrics.snapshot();<br>
+ * Log.p("cache hits " + m.getCacheHits());</code>
+ * <br><br>
+ * The timings are off by default since they read the clock twice per border
+ * paint, turn them on with {@link #setTimingEnabled(boolean)}. Times are
+ * measured with {@code System.currentTimeMillis()}, a single paint usually
+ * takes less than a millisecond but the totals over many paints are accurate
+ * since the rounding of the start and the end of each paint cancel out on
+ * average.
+ *
+ * @author Diamond
+ */
+public final class StyleMetrics {
+
+    private static boolean enabled = true;
+
+    private static boolean timing;
+
+    private static long operations;
+    private static long components;
+    private static final long[] writes = new long[StyleSpec.STATES];
+    private static long cacheHits;
+    private static long cacheMisses;
+    private static long borderPaints;
+    private static long borderPaintTime;
+    private static long fillShapeTime;
+
+    private static Timer timer;
+
+    private final long snapshotOperations;
+    private final long snapshotComponents;
+    private final long[] snapshotWrites;
+    private final long suppressedWrites;
+    private final long snapshotCacheHits;
+    private final long snapshotCacheMisses;
+    private final long cachedBytes;
+    private final long bgImageCachedBytes;
+    private final long snapshotBorderPaints;
+    private final long snapshotBorderPaintTime;
+    private final long snapshotFillShapeTime;
+
+    private StyleMetrics() {
+        snapshotOperations = operations;
+        snapshotComponents = components;
+        snapshotWrites = new long[StyleSpec.STATES];
+        System.arraycopy(writes, 0, snapshotWrites, 0, writes.length);
+        suppressedWrites = StyleWriter.getSuppressed();
+        snapshotCacheHits = cacheHits;
+        snapshotCacheMisses = cacheMisses;
+        cachedBytes = RoundedBorder.getCacheSize();
+        bgImageCachedBytes = ScaledBackground.getCache().getSize();
+        snapshotBorderPaints = borderPaints;
+        snapshotBorderPaintTime = borderPaintTime;
+        snapshotFillShapeTime = fillShapeTime;
+    }
+
+    /**
+     * Copies the current values of the counters
+     *
+     * @return an immutable copy of the counters
+     */
+    public static StyleMetrics snapshot() {
+        return new StyleMetrics();
+    }
+
+    /**
+     * Sets every counter back to zero, including
+     * {@link Helper#getSuppressedWrites()}
+     */
+    public static void reset() {
+        operations = 0;
+        components = 0;
+        for (int iter = 0; iter < writes.length; iter++) {
+            writes[iter] = 0;
+        }
+        StyleWriter.resetSuppressed();
+        cacheHits = 0;
+        cacheMisses = 0;
+        borderPaints = 0;
+        borderPaintTime = 0;
+        fillShapeTime = 0;
+    }
+
+    /**
+     * Turns the counting on or off, it is on by default
+     *
+     * @param enabled false to stop counting
+     */
+    public static void setEnabled(boolean enabled) {
+        StyleMetrics.enabled = enabled;
+    }
+
+    /**
+     * True if the counters are updated, see {@link #setEnabled(boolean)}
+     *
+     * @return whether counting is on
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turns the measuring of the border paint times on or off, it is off by
+     * default. The times are only measured while counting is on.
+     *
+     * @param timing true to measure the paint times
+     */
+    public static void setTimingEnabled(boolean timing) {
+        StyleMetrics.timing = timing;
+    }
+
+    /**
+     * True if the border paint times are measured, see
+     * {@link #setTimingEnabled(boolean)}
+     *
+     * @return whether timing is on
+     */
+    public static boolean isTimingEnabled() {
+        return timing;
+    }
+
+    /**
+     * Logs a snapshot every period with {@code Log.p()}, replacing the
+     * logging started earlier
+     *
+     * @param period the time between two log lines in milliseconds
+     */
+    public static synchronized void startLogging(int period) {
+        stopLogging();
+        timer = new Timer();
+        timer.schedule(new TimerTask() {
+            public void run() {
+                CN.callSerially(new Runnable() {
+                    public void run() {
+                        Log.p(snapshot().toString());
+                    }
+                });
+            }
+        }, period, period);
+    }
+
+    /**
+     * Stops the logging started with {@link #startLogging(int)}
+     */
+    public static synchronized void stopLogging() {
+        if (timer != null) {
+            timer.cancel();
+            timer = null;
+        }
+    }
+
+    /**
+     * Counts a value set by a Helper chain
+     */
+    static void operation() {
+        if (enabled) {
+            operations++;
+        }
+    }
+
+    /**
+     * Counts components styled by a chain or a spec
+     */
+    static void styled(int count) {
+        if (enabled) {
+            components += count;
+        }
+    }
+
+    /**
+     * Counts the values written to a state, the writes skipped because the
+     * style already held the value are counted by {@link StyleWriter}
+     *
+     * @param state the index of the state
+     * @param count the number of values written
+     */
+    static void written(int state, int count) {
+        if (enabled) {
+            writes[state] += count;
+        }
+    }
+
+    static void cacheHit() {
+        if (enabled) {
+            cacheHits++;
+        }
+    }
+
+    static void cacheMiss() {
+        if (enabled) {
+            cacheMisses++;
+        }
+    }
+
+    /**
+     * The start time of a measured call or 0 when timing is off
+     */
+    static long start() {
+        return enabled && timing ? System.currentTimeMillis() : 0;
+    }
+
+    static void borderPainted(long start) {
+        if (enabled) {
+            borderPaints++;
+            if (start != 0) {
+                borderPaintTime += System.currentTimeMillis() - start;
+            }
+        }
+    }
+
+    static void shapeFilled(long start) {
+        if (enabled && start != 0) {
+            fillShapeTime += System.currentTimeMillis() - start;
+        }
+    }
+
+    /**
+     * The number of values set by {@link Helper} chains, each chain call sets
+     * one or more values
+     *
+     * @return the number of values set
+     */
+    public long getOperations() {
+        return snapshotOperations;
+    }
+
+    /**
+     * The number of components styled by a chain or a spec
+     *
+     * @return the number of components
+     */
+    public long getComponentsStyled() {
+        return snapshotComponents;
+    }
+
+    /**
+     * The number of values written to the unselected styles, the writes
+     * skipped because the style already held the value are counted by
+     * {@link #getSuppressedWrites()}
+     *
+     * @return the number of writes
+     */
+    public long getUnselectedWrites() {
+        return snapshotWrites[0];
+    }
+
+    /**
+     * The number of values written to the selected styles, see
+     * {@link #getUnselectedWrites()}
+     *
+     * @return the number of writes
+     */
+    public long getSelectedWrites() {
+        return snapshotWrites[1];
+    }
+
+    /**
+     * The number of values written to the pressed styles, see
+     * {@link #getUnselectedWrites()}
+     *
+     * @return the number of writes
+     */
+    public long getPressedWrites() {
+        return snapshotWrites[2];
+    }
+
+    /**
+     * The number of values written to the disabled styles, see
+     * {@link #getUnselectedWrites()}
+     *
+     * @return the number of writes
+     */
+    public long getDisabledWrites() {
+        return snapshotWrites[3];
+    }
+
+    /**
+     * The number of writes skipped because the style already held the value,
+     * see {@link Helper#getSuppressedWrites()}
+     *
+     * @return the number of skipped writes
+     */
+    public long getSuppressedWrites() {
+        return suppressedWrites;
+    }
+
+    /**
+     * The number of border paints served from a cached raster
+     *
+     * @return the number of hits
+     */
+    public long getCacheHits() {
+        return snapshotCacheHits;
+    }
+
+    /**
+     * The number of border paints that had to render a raster
+     *
+     * @return the number of misses
+     */
+    public long getCacheMisses() {
+        return snapshotCacheMisses;
+    }
+
+    /**
+     * The estimated size of the rasters cached by the rounded borders
+     *
+     * @return the size in bytes
+     */
+    public long getCachedBytes() {
+        return cachedBytes;
+    }
+
+    /**
+     * The estimated size of the scaled background images, see
+     * {@link Helper#bgImage(com.codename1.ui.Image)}
+     *
+     * @return the size in bytes
+     */
+    public long getBgImageCachedBytes() {
+        return bgImageCachedBytes;
+    }
+
+    /**
+     * The number of calls to {@link RoundedBorder#paintBorderBackground}
+     *
+     * @return the number of paints
+     */
+    public long getBorderPaints() {
+        return snapshotBorderPaints;
+    }
+
+    /**
+     * The time spent painting rounded borders, 0 unless timing is on, see
+     * {@link #setTimingEnabled(boolean)}
+     *
+     * @return the time in milliseconds
+     */
+    public long getBorderPaintTime() {
+        return snapshotBorderPaintTime;
+    }
+
+    /**
+     * The time spent filling the shapes of rounded borders, part of
+     * {@link #getBorderPaintTime()} and 0 unless timing is on
+     *
+     * @return the time in milliseconds
+     */
+    public long getFillShapeTime() {
+        return snapshotFillShapeTime;
+    }
+
+    @Override
+    public String toString() {
+        return "StyleMetrics ops=" + snapshotOperations + " components=" + snapshotComponents
+                + " writes=" + snapshotWrites[0] + "/" + snapshotWrites[1] + "/" + snapshotWrites[2] + "/" + snapshotWrites[3]
+                + " suppressed=" + suppressedWrites + " cache=" + snapshotCacheHits + "/" + snapshotCacheMisses
+                + " cachedBytes=" + cachedBytes + " bgImageBytes=" + bgImageCachedBytes
+                + " borderPaints=" + snapshotBorderPaints + " borderMs=" + snapshotBorderPaintTime
+                + " fillShapeMs=" + snapshotFillShapeTime;
+    }
+}
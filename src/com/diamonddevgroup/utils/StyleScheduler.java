@@ -0,0 +1,212 @@
+package com.diamonddevgroup.utils;
+
+import com.codename1.ui.CN;
+import com.codename1.ui.Component;
+import com.codename1.ui.Container;
+import com.codename1.ui.Form;
+import com.codename1.ui.events.ActionEvent;
+import com.codename1.ui.events.ActionListener;
+import java.util.ArrayList;
+import java.util.HashSet;
+
+/**
+ * Applies a {@link StyleSpec} to many components in slices so the EDT keeps
+ * painting and handling input while the styling runs. Each slice takes at
+ * most the frame budget and the components currently on screen are styled
+ * first.
+ * <br><br>
+ * <strong>Example:</strong><br>
+ * <code>StyleScheduler.forTree(spec, myForm.getContentPane()).frameBudget(4).<br>
+ * onComplete(e -&gt; Log.p("done")).start();</code>
+ *
+ * @author Diamond
+ */
+public final class StyleScheduler {
+
+    /**
+     * The default time a slice may take in milliseconds
+     */
+    public static final int DEFAULT_FRAME_BUDGET = 8;
+
+    private final StyleSpec spec;
+
+    private final Component[] cmps;
+
+    // the components in the order they are styled, set in the first slice
+    private Component[] queue;
+
+    private ActionListener<ActionEvent> onComplete;
+
+    private final Slicer slicer = new Slicer();
+
+    private int next;
+
+    /**
+     * Creates a scheduler applying the spec to the given components
+     *
+     * @param spec the spec to apply
+     * @param cmps the components to style
+     */
+    public StyleScheduler(StyleSpec spec, Component... cmps) {
+        this.spec = spec;
+        this.cmps = cmps;
+    }
+
+    /**
+     * Creates a scheduler applying the spec to every descendant of the
+     * container
+     *
+     * @param spec the spec to apply
+     * @param root the container whose descendants are styled
+     * @return the scheduler
+     */
+    public static StyleScheduler forTree(StyleSpec spec, Container root) {
+        ArrayList<Component> cmps = new ArrayList<Component>();
+        collect(root, cmps);
+        Component[] arr = new Component[cmps.size()];
+        cmps.toArray(arr);
+        return new StyleScheduler(spec, arr);
+    }
+
+    private static void collect(Container parent, ArrayList<Component> out) {
+        int count = parent.getComponentCount();
+        for (int iter = 0; iter < count; iter++) {
+            Component c = parent.getComponentAt(iter);
+            out.add(c);
+            if (c instanceof Container) {
+                collect((Container) c, out);
+            }
+        }
+    }
+
+    /**
+     * The time a slice may take, defaults to {@link #DEFAULT_FRAME_BUDGET}
+     *
+     * @param millis the budget in milliseconds per EDT cycle
+     * @return this scheduler
+     */
+    public StyleScheduler frameBudget(int millis) {
+        slicer.setBudget(Math.max(1, millis));
+        return this;
+    }
+
+    /**
+     * Invoked on the EDT once every component is styled, the source of the
+     * event is this scheduler
+     *
+     * @param listener the listener to invoke
+     * @return this scheduler
+     */
+    public StyleScheduler onComplete(ActionListener<ActionEvent> listener) {
+        this.onComplete = listener;
+        return this;
+    }
+
+    /**
+     * Starts styling the components, the first slice runs on the next EDT
+     * cycle and puts the components on screen at that time first
+     *
+     * @return this scheduler
+     */
+    public StyleScheduler start() {
+        slicer.start();
+        return this;
+    }
+
+    /**
+     * Stops styling, the components styled so far keep their style and the
+     * completion listener isn't invoked
+     */
+    public void cancel() {
+        slicer.cancel();
+    }
+
+    /**
+     * True once every component is styled
+     *
+     * @return whether the styling is complete
+     */
+    public boolean isDone() {
+        return queue != null && next >= queue.length;
+    }
+
+    /**
+     * The number of components styled so far
+     *
+     * @return the number of styled components
+     */
+    public int getProgress() {
+        return next;
+    }
+
+    /**
+     * Orders the components so the ones currently on screen come first while
+     * keeping the order of each group
+     */
+    private static Component[] onScreenFirst(Component[] cmps) {
+        Component[] out = new Component[cmps.length];
+        Component[] offScreen = new Component[cmps.length];
+        int visible = 0;
+        int hidden = 0;
+        for (Component c : cmps) {
+            if (isOnScreen(c)) {
+                out[visible++] = c;
+            } else {
+                offScreen[hidden++] = c;
+            }
+        }
+        System.arraycopy(offScreen, 0, out, visible, hidden);
+        return out;
+    }
+
+    private static boolean isOnScreen(Component c) {
+        Form f = c.getComponentForm();
+        if (f == null || f != CN.getCurrentForm() || !c.isVisible()) {
+            return false;
+        }
+        int x = c.getAbsoluteX();
+        int y = c.getAbsoluteY();
+        return x + c.getWidth() > 0 && y + c.getHeight() > 0
+                && x < CN.getDisplayWidth() && y < CN.getDisplayHeight();
+    }
+
+    private final class Slicer extends TimeSlicer {
+
+        // containers to revalidate at the end of the slice
+        private final HashSet<Container> parents = new HashSet<Container>();
+
+        Slicer() {
+            super(DEFAULT_FRAME_BUDGET);
+        }
+
+        boolean step() {
+            if (queue == null) {
+                queue = onScreenFirst(cmps);
+                return true;
+            }
+            if (next >= queue.length) {
+                return false;
+            }
+            Component c = queue[next++];
+            spec.applyTo(c);
+            Container parent = c.getParent();
+            if (parent != null) {
+                parents.add(parent);
+            }
+            return true;
+        }
+
+        void sliceEnd() {
+            for (Container parent : parents) {
+                parent.revalidateLater();
+            }
+            parents.clear();
+        }
+
+        void done() {
+            if (onComplete != null) {
+                onComplete.actionPerformed(new ActionEvent(StyleScheduler.this));
+            }
+        }
+    }
+}
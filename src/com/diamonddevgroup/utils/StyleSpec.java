@@ -0,0 +1,648 @@
+package com.diamonddevgroup.utils;
+
+import com.codename1.ui.Component;
+import com.codename1.ui.events.ActionListener;
+import com.codename1.ui.events.ComponentStateChangeEvent;
+import com.codename1.ui.plaf.Border;
+import com.codename1.ui.plaf.Style;
+import com.codename1.ui.plaf.UIManager;
+import java.util.Arrays;
+import java.util.Hashtable;
+
+/**
+ * A compiled chain of {@link Helper} calls that can be applied to any number of
+ * components. The values of the chain are resolved once when it is recorded
+ * and are kept in flat arrays per state so applying the spec is a single pass
+ * over the styles of the component.
+ * <br><br>
+ * <strong>Example:</strong><br>
+ * <code>StyleSpec spec = Helper.record().pa1().ma0().textGreen().compile();<br>
+ * spec.applyTo(myLabel);</code>
+ * <br><br>
+ * A spec can also be registered in the theme as a UIID so the components
+ * styled alike are built from one theme entry instead of replaying the chain,
+ * see {@link #applyUIID(Component...)}.
+ *
+ * @author Diamond
+ */
+public final class StyleSpec {
+
+    static final int STATES = 4;
+
+    // index of the spacing values, margins use the Component side constants
+    static final int SPACING = 8;
+    static final int PADDING = 4;
+
+    // index of the int values
+    static final int MARGIN_UNIT = 0;
+    static final int PADDING_UNIT = 1;
+    static final int FG_COLOR = 2;
+    static final int BG_COLOR = 3;
+    static final int BG_TRANSPARENCY = 4;
+    static final int ALIGNMENT = 5;
+    static final int OPACITY = 6;
+    static final int BACKGROUND_TYPE = 7;
+    static final int INTS = 8;
+
+    // index of the object values
+    static final int FONT = 0;
+    static final int BG_IMAGE = 1;
+    static final int BORDER = 2;
+    static final int BG_PAINTER = 3;
+    static final int OBJECTS = 4;
+
+    // index of the component constraints
+    static final int MAX_WIDTH = 0;
+    static final int MAX_HEIGHT = 1;
+    static final int MIN_WIDTH = 2;
+    static final int MIN_HEIGHT = 3;
+    static final int CONSTRAINTS = 4;
+
+    /**
+     * The bits of the values that are set per state, the spacing values come
+     * first followed by the ints and the objects
+     */
+    private final int[] set = new int[STATES];
+
+    private final float[] spacing = new float[STATES * SPACING];
+
+    private final int[] ints = new int[STATES * INTS];
+
+    private final Object[] objects = new Object[STATES * OBJECTS];
+
+    private final int[] constraints = {-1, -1, -1, -1};
+
+    // the client property holding the fingerprint of the last spec applied
+    private static final String FINGERPRINT = "$StyleSpec.fingerprint";
+
+    // the client property holding the painter of a spec waiting to be applied
+    private static final String LAZY = "$StyleSpec.lazy";
+
+    /**
+     * A 64 bit hash of the values of a compiled spec, the boxed instance is
+     * reused for every component it is applied to
+     */
+    private long fingerprint;
+    private Long stamp;
+
+    // the theme key prefix of each state
+    private static final String[] STATE_PREFIX = {"", "sel#", "press#", "dis#"};
+
+    // the UIIDs registered in the theme so far and the spec of each
+    private static final Hashtable<String, StyleSpec> registered = new Hashtable<String, StyleSpec>();
+
+    // bumped by clearUIIDs() so the specs forget their generated names
+    private static int uiidGeneration;
+
+    // the UIID generated from this spec for each base UIID
+    private Hashtable<String, String> uiids;
+    private int uiidsGeneration;
+
+    StyleSpec() {
+    }
+
+    /**
+     * Records a margin, or a padding when the index is offset by
+     * {@link #PADDING}
+     */
+    void setSpacing(int index, float value, int states) {
+        for (int state = 0; state < STATES; state++) {
+            if ((states & (1 << state)) != 0) {
+                spacing[state * SPACING + index] = value;
+                set[state] |= 1 << index;
+            }
+        }
+    }
+
+    void setInt(int index, int value, int states) {
+        for (int state = 0; state < STATES; state++) {
+            if ((states & (1 << state)) != 0) {
+                ints[state * INTS + index] = value;
+                set[state] |= 1 << (SPACING + index);
+            }
+        }
+    }
+
+    void setObject(int index, Object value, int states) {
+        for (int state = 0; state < STATES; state++) {
+            if ((states & (1 << state)) != 0) {
+                objects[state * OBJECTS + index] = value;
+                set[state] |= 1 << (SPACING + INTS + index);
+            }
+        }
+    }
+
+    /**
+     * Records a rounded border which takes the background color of the state.
+     * If the chain already set the background color the border is resolved
+     * now, otherwise it is resolved from the component when the spec is
+     * applied.
+     */
+    void setBorder(int roundedPosition, int radius, boolean shadow, int states) {
+        for (int state = 0; state < STATES; state++) {
+            if ((states & (1 << state)) != 0) {
+                Object border;
+                if (isSet(state, SPACING + BG_COLOR)) {
+                    int color = ints[state * INTS + BG_COLOR];
+                    border = shadow ? Helper.shadowBorder(color, radius) : Helper.border(color, roundedPosition, radius);
+                } else {
+                    border = new BorderSpec(roundedPosition, radius, shadow);
+                }
+                setObject(BORDER, border, 1 << state);
+            }
+        }
+    }
+
+    void setConstraint(int index, int value) {
+        constraints[index] = value;
+    }
+
+    private boolean isSet(int state, int bit) {
+        return (set[state] & (1 << bit)) != 0;
+    }
+
+    /**
+     * Returns an immutable copy of the recorded values
+     */
+    StyleSpec copy() {
+        StyleSpec s = new StyleSpec();
+        System.arraycopy(set, 0, s.set, 0, set.length);
+        System.arraycopy(spacing, 0, s.spacing, 0, spacing.length);
+        System.arraycopy(ints, 0, s.ints, 0, ints.length);
+        System.arraycopy(objects, 0, s.objects, 0, objects.length);
+        System.arraycopy(constraints, 0, s.constraints, 0, constraints.length);
+        s.fingerprint = s.computeFingerprint();
+        s.stamp = new Long(s.fingerprint);
+        return s;
+    }
+
+    /**
+     * FNV-1a over every recorded value, objects contribute their hash code
+     */
+    private long computeFingerprint() {
+        long hash = 0xcbf29ce484222325L;
+        for (int iter = 0; iter < set.length; iter++) {
+            hash = mix(hash, set[iter]);
+        }
+        for (int iter = 0; iter < spacing.length; iter++) {
+            hash = mix(hash, Float.floatToIntBits(spacing[iter]));
+        }
+        for (int iter = 0; iter < ints.length; iter++) {
+            hash = mix(hash, ints[iter]);
+        }
+        for (int iter = 0; iter < objects.length; iter++) {
+            hash = mix(hash, objects[iter] == null ? 0 : objects[iter].hashCode());
+        }
+        for (int iter = 0; iter < constraints.length; iter++) {
+            hash = mix(hash, constraints[iter]);
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, int value) {
+        for (int shift = 0; shift < 32; shift += 8) {
+            hash ^= (value >>> shift) & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * A 64 bit hash of the values of the spec, components remember the
+     * fingerprint of the last spec applied to them
+     *
+     * @return the fingerprint of the spec
+     */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Makes the next {@link #applyTo(Component)} on the component apply the
+     * spec even if it was the last one applied. Use it when the component was
+     * restyled by other means, {@link Helper} does this on its own.
+     *
+     * @param cmp the component
+     */
+    public static void invalidate(Component cmp) {
+        if (cmp.getClientProperty(FINGERPRINT) != null) {
+            cmp.putClientProperty(FINGERPRINT, null);
+        }
+    }
+
+    /**
+     * Applies the spec to all the states of the component. The component
+     * remembers the fingerprint of the spec so applying the same spec again,
+     * as recycled list cells do on every bind, returns immediately.
+     *
+     * @param cmp the component to style
+     */
+    public void applyTo(Component cmp) {
+        Lazy lazy = (Lazy) cmp.getClientProperty(LAZY);
+        if (lazy != null) {
+            lazy.cancel();
+        }
+        Long last = (Long) cmp.getClientProperty(FINGERPRINT);
+        if (last != null && stamp != null && last.longValue() == fingerprint) {
+            return;
+        }
+        for (int state = 0; state < STATES; state++) {
+            if (set[state] != 0) {
+                applyTo(cmp, Helper.style(cmp, state), state);
+            }
+        }
+        applyConstraints(cmp);
+        cmp.putClientProperty(FINGERPRINT, stamp);
+        StyleMetrics.styled(1);
+    }
+
+    private void applyConstraints(Component cmp) {
+        for (int index = 0; index < CONSTRAINTS; index++) {
+            if (constraints[index] > -1) {
+                SizeConstraints.set(cmp, index, constraints[index]);
+            }
+        }
+        // the new style may change the natural size of a constrained component
+        SizeConstraints.refresh(cmp);
+    }
+
+    /**
+     * Applies the spec to each component when it is added to a shown form,
+     * before the layout that sizes it. Components that are never shown never
+     * pay for their styling and the shown ones are laid out with their final
+     * margins and paddings, every state included. Components already in a
+     * shown form are styled right away.
+     * <br><br>
+     * Styling the component with {@link Helper} or
+     * {@link #applyTo(Component)} before it is shown applies the pending spec
+     * first so the calls keep their order.
+     *
+     * @param cmps the components to style
+     */
+    public void applyLazily(Component... cmps) {
+        for (Component c : cmps) {
+            Lazy lazy = (Lazy) c.getClientProperty(LAZY);
+            if (lazy != null) {
+                lazy.cancel();
+            }
+            if (c.isInitialized()) {
+                applyTo(c);
+                continue;
+            }
+            lazy = new Lazy(this, c);
+            c.addStateChangeListener(lazy);
+            c.putClientProperty(LAZY, lazy);
+        }
+    }
+
+    /**
+     * Applies the spec waiting for the component to be shown, if any
+     */
+    static void flushLazy(Component cmp) {
+        Lazy lazy = (Lazy) cmp.getClientProperty(LAZY);
+        if (lazy != null) {
+            lazy.apply();
+        }
+    }
+
+    /**
+     * Applies the values recorded for the unselected state to the style, the
+     * size constraints of the spec only apply to components
+     *
+     * @param style the style to modify
+     */
+    public void applyTo(Style style) {
+        applyTo(null, style, 0);
+    }
+
+    /**
+     * @param cmp the component owning the style or null
+     */
+    private void applyTo(Component cmp, Style style, int state) {
+        int bits = set[state];
+        int spacingOffset = state * SPACING;
+        int intOffset = state * INTS;
+        int objectOffset = state * OBJECTS;
+
+        // borders that follow the background color read it before it changes
+        Object border = objects[objectOffset + BORDER];
+        if (border instanceof BorderSpec) {
+            border = ((BorderSpec) border).resolve(style.getBgColor());
+        }
+
+        int count = 0;
+        for (int index = 0; index < SPACING; index++) {
+            if ((bits & (1 << index)) != 0) {
+                if (StyleWriter.spacing(style, index, spacing[spacingOffset + index])) {
+                    count++;
+                }
+            }
+        }
+        for (int index = 0; index < INTS; index++) {
+            if ((bits & (1 << (SPACING + index))) != 0) {
+                if (StyleWriter.write(style, index, ints[intOffset + index])) {
+                    count++;
+                }
+            }
+        }
+        for (int index = 0; index < OBJECTS; index++) {
+            if ((bits & (1 << (SPACING + INTS + index))) != 0) {
+                Object value = index == BORDER ? border : objects[objectOffset + index];
+                if (value instanceof AsyncBackground) {
+                    value = ((AsyncBackground) value).bind(cmp);
+                }
+                if (StyleWriter.write(style, index, value)) {
+                    count++;
+                }
+            }
+        }
+        StyleMetrics.written(state, count);
+    }
+
+    /**
+     * Returns a UIID that derives from the given UIID and carries the styling
+     * of this spec. The UIID is added to the theme the first time it is
+     * requested. Codename One still builds a Style for each component from the
+     * theme entry, what is saved is replaying the chain on every component.
+     * <br><br>
+     * The name holds the fingerprint of the spec, a different spec whose
+     * fingerprint collides gets a numbered name of its own.
+     *
+     * @param baseUIID the UIID the generated UIID derives from
+     * @return the name of the generated UIID
+     */
+    public String getUIID(String baseUIID) {
+        if (uiids == null || uiidsGeneration != uiidGeneration) {
+            uiids = new Hashtable<String, String>();
+            uiidsGeneration = uiidGeneration;
+        }
+        String name = uiids.get(baseUIID);
+        if (name != null) {
+            return name;
+        }
+        String base = baseUIID + "$" + hex(fingerprint);
+        name = base;
+        int suffix = 1;
+        StyleSpec owner = registered.get(name);
+        while (owner != null && !owner.equals(this)) {
+            name = base + "_" + suffix++;
+            owner = registered.get(name);
+        }
+        if (owner == null) {
+            UIManager.getInstance().addThemeProps(toThemeProps(name, baseUIID));
+            registered.put(name, this);
+        }
+        uiids.put(baseUIID, name);
+        return name;
+    }
+
+    /**
+     * Forgets the UIIDs registered by {@link #getUIID(String)}. Call it after
+     * replacing the theme, the next call to getUIID() adds the UIID to the new
+     * theme. The components already using a generated UIID keep it.
+     */
+    public static void clearUIIDs() {
+        registered.clear();
+        uiidGeneration++;
+    }
+
+    private static String hex(long value) {
+        String low = Integer.toHexString((int) value);
+        return Integer.toHexString((int) (value >>> 32)) + "00000000".substring(low.length()) + low;
+    }
+
+    /**
+     * Styles the components by switching them to a UIID generated from their
+     * current UIID, see {@link #getUIID(String)}. The size constraints and the
+     * background images of the spec, which the theme can't hold in their
+     * scaled form, are still applied to each component.
+     *
+     * @param cmps the components to style
+     */
+    public void applyUIID(Component... cmps) {
+        for (Component c : cmps) {
+            String uiid = c.getUIID();
+            if (uiids == null || uiidsGeneration != uiidGeneration || !uiids.containsValue(uiid)) {
+                c.setUIID(getUIID(uiid));
+                invalidate(c);
+            }
+            applyPainters(c);
+            applyConstraints(c);
+        }
+    }
+
+    private void applyPainters(Component cmp) {
+        for (int state = 0; state < STATES; state++) {
+            if (isSet(state, SPACING + INTS + BG_PAINTER)) {
+                Object painter = objects[state * OBJECTS + BG_PAINTER];
+                if (painter instanceof AsyncBackground) {
+                    painter = ((AsyncBackground) painter).bind(cmp);
+                }
+                if (StyleWriter.write(Helper.style(cmp, state), BG_PAINTER, painter)) {
+                    StyleMetrics.written(state, 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Builds the theme properties of a UIID deriving from the base UIID. The
+     * theme keeps a single margin and padding entry for the four sides so the
+     * sides the spec doesn't set are taken from the base UIID.
+     */
+    private Hashtable<String, Object> toThemeProps(String name, String baseUIID) {
+        Hashtable<String, Object> props = new Hashtable<String, Object>();
+        for (int state = 0; state < STATES; state++) {
+            // the theme resolves derive per state, every state of the base
+            // UIID is inherited and not only the unselected one
+            props.put(name + "." + STATE_PREFIX[state] + "derive", baseUIID);
+            int bits = set[state];
+            if (bits == 0) {
+                continue;
+            }
+            String prefix = name + "." + STATE_PREFIX[state];
+            Style base = themeStyle(baseUIID, state);
+            int intOffset = state * INTS;
+            int objectOffset = state * OBJECTS;
+
+            if ((bits & 0xf) != 0) {
+                props.put(prefix + Style.MARGIN, spacing(base, state, 0, true));
+            }
+            if ((bits & 0xf0) != 0) {
+                props.put(prefix + Style.PADDING, spacing(base, state, PADDING, false));
+            }
+            if ((bits & (1 << (SPACING + MARGIN_UNIT))) != 0) {
+                byte unit = (byte) ints[intOffset + MARGIN_UNIT];
+                props.put(prefix + Style.MARGIN_UNIT, new byte[]{unit, unit, unit, unit});
+            }
+            if ((bits & (1 << (SPACING + PADDING_UNIT))) != 0) {
+                byte unit = (byte) ints[intOffset + PADDING_UNIT];
+                props.put(prefix + Style.PADDING_UNIT, new byte[]{unit, unit, unit, unit});
+            }
+            if ((bits & (1 << (SPACING + FG_COLOR))) != 0) {
+                props.put(prefix + Style.FG_COLOR, Integer.toHexString(ints[intOffset + FG_COLOR] & 0xffffff));
+            }
+            if ((bits & (1 << (SPACING + BG_COLOR))) != 0) {
+                props.put(prefix + Style.BG_COLOR, Integer.toHexString(ints[intOffset + BG_COLOR] & 0xffffff));
+            }
+            if ((bits & (1 << (SPACING + BG_TRANSPARENCY))) != 0) {
+                props.put(prefix + Style.TRANSPARENCY, String.valueOf(ints[intOffset + BG_TRANSPARENCY] & 0xff));
+            }
+            if ((bits & (1 << (SPACING + ALIGNMENT))) != 0) {
+                props.put(prefix + Style.ALIGNMENT, new Integer(ints[intOffset + ALIGNMENT]));
+            }
+            if ((bits & (1 << (SPACING + OPACITY))) != 0) {
+                props.put(prefix + Style.OPACITY, String.valueOf(ints[intOffset + OPACITY]));
+            }
+            if ((bits & (1 << (SPACING + BACKGROUND_TYPE))) != 0) {
+                props.put(prefix + Style.BACKGROUND_TYPE, new Byte((byte) ints[intOffset + BACKGROUND_TYPE]));
+            }
+            if ((bits & (1 << (SPACING + INTS + FONT))) != 0) {
+                props.put(prefix + Style.FONT, objects[objectOffset + FONT]);
+            }
+            if ((bits & (1 << (SPACING + INTS + BG_IMAGE))) != 0) {
+                props.put(prefix + Style.BG_IMAGE, objects[objectOffset + BG_IMAGE]);
+            }
+            if ((bits & (1 << (SPACING + INTS + BORDER))) != 0) {
+                Object border = objects[objectOffset + BORDER];
+                if (border instanceof BorderSpec) {
+                    border = ((BorderSpec) border).resolve(base.getBgColor());
+                }
+                props.put(prefix + Style.BORDER, border);
+            }
+        }
+        return props;
+    }
+
+    /**
+     * Formats the margin or padding of a state in the theme format
+     * {@code top,bottom,left,right}
+     */
+    private String spacing(Style base, int state, int offset, boolean margin) {
+        int[] sides = {Component.TOP, Component.BOTTOM, Component.LEFT, Component.RIGHT};
+        StringBuilder sb = new StringBuilder();
+        for (int iter = 0; iter < sides.length; iter++) {
+            int side = sides[iter];
+            float value;
+            if (isSet(state, offset + side)) {
+                value = spacing[state * SPACING + offset + side];
+            } else if (margin) {
+                value = base.getMarginFloatValue(false, side);
+            } else {
+                value = base.getPaddingFloatValue(false, side);
+            }
+            if (iter > 0) {
+                sb.append(',');
+            }
+            sb.append(value);
+        }
+        return sb.toString();
+    }
+
+    private static Style themeStyle(String uiid, int state) {
+        UIManager manager = UIManager.getInstance();
+        switch (state) {
+            case 1:
+                return manager.getComponentSelectedStyle(uiid);
+            case 2:
+                return manager.getComponentCustomStyle(uiid, "press");
+            case 3:
+                return manager.getComponentCustomStyle(uiid, "dis");
+            default:
+                return manager.getComponentStyle(uiid);
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof StyleSpec)) {
+            return false;
+        }
+        StyleSpec other = (StyleSpec) obj;
+        return Arrays.equals(set, other.set) && Arrays.equals(spacing, other.spacing)
+                && Arrays.equals(ints, other.ints) && Arrays.equals(objects, other.objects)
+                && Arrays.equals(constraints, other.constraints);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Arrays.hashCode(set);
+        hash = 31 * hash + Arrays.hashCode(spacing);
+        hash = 31 * hash + Arrays.hashCode(ints);
+        hash = 31 * hash + Arrays.hashCode(objects);
+        hash = 31 * hash + Arrays.hashCode(constraints);
+        return hash;
+    }
+
+    /**
+     * Waits for a component to be initialized, Codename One initializes the
+     * components of a form before laying it out and a component added to a
+     * shown form as it is added
+     */
+    private static final class Lazy implements ActionListener<ComponentStateChangeEvent> {
+
+        final StyleSpec spec;
+        final Component cmp;
+
+        Lazy(StyleSpec spec, Component cmp) {
+            this.spec = spec;
+            this.cmp = cmp;
+        }
+
+        public void actionPerformed(ComponentStateChangeEvent evt) {
+            if (evt.isInitialized()) {
+                apply();
+            }
+        }
+
+        void apply() {
+            cancel();
+            spec.applyTo(cmp);
+        }
+
+        void cancel() {
+            cmp.removeStateChangeListener(this);
+            cmp.putClientProperty(LAZY, null);
+        }
+    }
+
+    /**
+     * A rounded border whose color is taken from the style it is applied to
+     */
+    private static final class BorderSpec {
+
+        final int roundedPosition;
+        final int radius;
+        final boolean shadow;
+
+        BorderSpec(int roundedPosition, int radius, boolean shadow) {
+            this.roundedPosition = roundedPosition;
+            this.radius = radius;
+            this.shadow = shadow;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof BorderSpec)) {
+                return false;
+            }
+            BorderSpec other = (BorderSpec) obj;
+            return roundedPosition == other.roundedPosition && radius == other.radius && shadow == other.shadow;
+        }
+
+        @Override
+        public int hashCode() {
+            return (roundedPosition * 31 + radius) * 2 + (shadow ? 1 : 0);
+        }
+
+        Border resolve(int color) {
+            if (shadow) {
+                return Helper.shadowBorder(color, radius);
+            }
+            return Helper.border(color, roundedPosition, radius);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.diamonddevgroup.utils;
+
+import com.codename1.ui.Font;
+import com.codename1.ui.Image;
+import com.codename1.ui.Painter;
+import com.codename1.ui.plaf.Border;
+import com.codename1.ui.plaf.Style;
+
+/**
+ * Writes values into a style only when they differ from what the style already
+ * holds. Every setter of {@link Style} fires a change event that repaints the
+ * component, reapplying a chain to a component that is already styled would
+ * otherwise repaint it once per value. Each write returns false when it was
+ * skipped.
+ * <br><br>
+ * This class isn't thread safe, it is meant to be used from the EDT only.
+ *
+ * @author Diamond
+ */
+final class StyleWriter {
+
+    // the number of writes skipped because the style already held the value
+    private static int suppressed;
+
+    private StyleWriter() {
+    }
+
+    static int getSuppressed() {
+        return suppressed;
+    }
+
+    static void resetSuppressed() {
+        suppressed = 0;
+    }
+
+    /**
+     * Writes one of the int values of {@link StyleSpec}
+     *
+     * @return false if the style already held the value
+     */
+    static boolean write(Style s, int prop, int value) {
+        switch (prop) {
+            case StyleSpec.MARGIN_UNIT:
+                return marginUnit(s, (byte) value);
+            case StyleSpec.PADDING_UNIT:
+                return paddingUnit(s, (byte) value);
+            case StyleSpec.FG_COLOR:
+                return fgColor(s, value);
+            case StyleSpec.BG_COLOR:
+                return bgColor(s, value);
+            case StyleSpec.BG_TRANSPARENCY:
+                return bgTransparency(s, value);
+            case StyleSpec.ALIGNMENT:
+                return alignment(s, value);
+            case StyleSpec.OPACITY:
+                return opacity(s, value);
+            case StyleSpec.BACKGROUND_TYPE:
+                return backgroundType(s, (byte) value);
+        }
+        return false;
+    }
+
+    /**
+     * Writes one of the object values of {@link StyleSpec}, see
+     * {@link #write(Style, int, int)}
+     */
+    static boolean write(Style s, int prop, Object value) {
+        switch (prop) {
+            case StyleSpec.FONT:
+                return font(s, (Font) value);
+            case StyleSpec.BG_IMAGE:
+                return bgImage(s, (Image) value);
+            case StyleSpec.BORDER:
+                return border(s, (Border) value);
+            case StyleSpec.BG_PAINTER:
+                return bgPainter(s, (Painter) value);
+        }
+        return false;
+    }
+
+    /**
+     * Writes a margin, or a padding when the index is offset by
+     * {@link StyleSpec#PADDING}
+     */
+    static boolean spacing(Style s, int index, float value) {
+        if (index < StyleSpec.PADDING) {
+            return margin(s, index, value);
+        }
+        return padding(s, index - StyleSpec.PADDING, value);
+    }
+
+    static boolean marginUnit(Style s, byte unit) {
+        if (sameUnit(s.getMarginUnit(), unit)) {
+            suppressed++;
+            return false;
+        }
+        s.setMarginUnit(unit, unit, unit, unit);
+        return true;
+    }
+
+    static boolean paddingUnit(Style s, byte unit) {
+        if (sameUnit(s.getPaddingUnit(), unit)) {
+            suppressed++;
+            return false;
+        }
+        s.setPaddingUnit(unit, unit, unit, unit);
+        return true;
+    }
+
+    /**
+     * A style without units uses pixels on every side
+     */
+    private static boolean sameUnit(byte[] units, byte unit) {
+        if (units == null) {
+            return unit == Style.UNIT_TYPE_PIXELS;
+        }
+        for (int iter = 0; iter < units.length; iter++) {
+            if (units[iter] != unit) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean margin(Style s, int side, float value) {
+        if (s.getMarginFloatValue(false, side) == value) {
+            suppressed++;
+            return false;
+        }
+        s.setMargin(side, value);
+        return true;
+    }
+
+    static boolean padding(Style s, int side, float value) {
+        if (s.getPaddingFloatValue(false, side) == value) {
+            suppressed++;
+            return false;
+        }
+        s.setPadding(side, value);
+        return true;
+    }
+
+    static boolean fgColor(Style s, int color) {
+        if (s.getFgColor() == color) {
+            suppressed++;
+            return false;
+        }
+        s.setFgColor(color);
+        return true;
+    }
+
+    static boolean bgColor(Style s, int color) {
+        if (s.getBgColor() == color) {
+            suppressed++;
+            return false;
+        }
+        s.setBgColor(color);
+        return true;
+    }
+
+    static boolean bgTransparency(Style s, int transparency) {
+        if ((s.getBgTransparency() & 0xff) == transparency) {
+            suppressed++;
+            return false;
+        }
+        s.setBgTransparency(transparency);
+        return true;
+    }
+
+    static boolean alignment(Style s, int alignment) {
+        if (s.getAlignment() == alignment) {
+            suppressed++;
+            return false;
+        }
+        s.setAlignment(alignment);
+        return true;
+    }
+
+    static boolean opacity(Style s, int opacity) {
+        if (s.getOpacity() == opacity) {
+            suppressed++;
+            return false;
+        }
+        s.setOpacity(opacity);
+        return true;
+    }
+
+    static boolean backgroundType(Style s, byte type) {
+        if (s.getBackgroundType() == type) {
+            suppressed++;
+            return false;
+        }
+        s.setBackgroundType(type);
+        return true;
+    }
+
+    /**
+     * Fonts are cached by {@link FontCache} so the same font is the same
+     * instance
+     */
+    static boolean font(Style s, Font font) {
+        if (s.getFont() == font) {
+            suppressed++;
+            return false;
+        }
+        s.setFont(font);
+        return true;
+    }
+
+    static boolean bgImage(Style s, Image image) {
+        if (s.getBgImage() == image) {
+            suppressed++;
+            return false;
+        }
+        s.setBgImage(image);
+        return true;
+    }
+
+    /**
+     * Background painters of {@link Helper} are equal when they paint the same
+     * image
+     */
+    static boolean bgPainter(Style s, Painter painter) {
+        Painter current = s.getBgPainter();
+        if (current == painter || (current != null && current.equals(painter))) {
+            suppressed++;
+            return false;
+        }
+        s.setBgPainter(painter);
+        return true;
+    }
+
+    /**
+     * Helper borders are interned so an equal border is the same instance
+     */
+    static boolean border(Style s, Border border) {
+        if (s.getBorder() == border) {
+            suppressed++;
+            return false;
+        }
+        s.setBorder(border);
+        return true;
+    }
+}
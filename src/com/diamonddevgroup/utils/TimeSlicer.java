@@ -0,0 +1,112 @@
+package com.diamonddevgroup.utils;
+
+import com.codename1.ui.CN;
+
+/**
+ * Runs a long job on the EDT in small steps, spending at most a fixed number of
+ * milliseconds per EDT cycle. The rest of the cycle is left for painting and
+ * input so the UI stays responsive while the job runs.
+ *
+ * @author Diamond
+ */
+abstract class TimeSlicer {
+
+    private int budget;
+
+    private boolean running;
+
+    // bumped by start() and cancel(), a queued slice of an older run exits
+    // without touching the current one
+    private int generation;
+
+    /**
+     * @param budget the time the job may take per EDT cycle in milliseconds
+     */
+    TimeSlicer(int budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * Performs a single short unit of work
+     *
+     * @return false when the job is complete
+     */
+    abstract boolean step();
+
+    /**
+     * Invoked on the EDT once {@link #step()} returns false
+     */
+    abstract void done();
+
+    /**
+     * Invoked on the EDT at the end of every slice, before {@link #done()}
+     * for the last one
+     */
+    void sliceEnd() {
+    }
+
+    void setBudget(int budget) {
+        this.budget = budget;
+    }
+
+    int getBudget() {
+        return budget;
+    }
+
+    /**
+     * Schedules the first slice, does nothing if the job is already running.
+     * A job cancelled while a slice was queued starts again.
+     */
+    void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        schedule(++generation);
+    }
+
+    /**
+     * Stops the job before its next step, {@link #done()} isn't invoked
+     */
+    void cancel() {
+        if (running) {
+            running = false;
+            generation++;
+        }
+    }
+
+    boolean isRunning() {
+        return running;
+    }
+
+    private void schedule(final int current) {
+        CN.callSerially(new Runnable() {
+            public void run() {
+                slice(current);
+            }
+        });
+    }
+
+    private void slice(int current) {
+        if (current != generation) {
+            return;
+        }
+        long end = System.currentTimeMillis() + budget;
+        while (step()) {
+            if (current != generation) {
+                // cancelled by the step
+                sliceEnd();
+                return;
+            }
+            if (System.currentTimeMillis() >= end) {
+                // let the EDT paint and process input before the next slice
+                sliceEnd();
+                schedule(current);
+                return;
+            }
+        }
+        running = false;
+        sliceEnd();
+        done();
+    }
+}
@@ -0,0 +1,99 @@
+package com.diamonddevgroup.utils;
+
+import com.codename1.ui.CN;
+import com.codename1.ui.Display;
+
+/**
+ * Remembers the pixel size of the millimeter values used by the library. The
+ * borders convert the same few values on every layout pass and the helper
+ * converts them for every component it styles. Whole millimeters and tenths of
+ * a millimeter up to 10mm are kept in tables that are cleared when the
+ * density or the size of the display changes, other values are converted
+ * directly. The density and size of the display are compared whenever a
+ * table is read so nothing has to be scheduled on the EDT to notice a change.
+ * <br><br>
+ * This class isn't thread safe, it is meant to be used from the EDT only.
+ *
+ * @author Diamond
+ */
+final class Units {
+
+    private static final int WHOLE = 32;
+
+    private static final int TENTHS = 101;
+
+    private static final int[] whole = new int[WHOLE];
+
+    private static final int[] tenths = new int[TENTHS];
+
+    // the display the tables were filled for
+    private static int density = -1;
+    private static int width = -1;
+    private static int height = -1;
+
+    private Units() {
+    }
+
+    /**
+     * Converts whole millimeters to pixels, see {@link CN#convertToPixels(int)}
+     *
+     * @param mm the size in millimeters
+     * @return the size in pixels
+     */
+    static int toPixels(int mm) {
+        if (mm < 0 || mm >= WHOLE) {
+            return CN.convertToPixels(mm);
+        }
+        validate();
+        int pixels = whole[mm];
+        if (pixels < 0) {
+            pixels = CN.convertToPixels(mm);
+            whole[mm] = pixels;
+        }
+        return pixels;
+    }
+
+    /**
+     * Converts millimeters to pixels, see {@link CN#convertToPixels(float)}
+     *
+     * @param mm the size in millimeters
+     * @return the size in pixels
+     */
+    static int toPixels(float mm) {
+        int index = Math.round(mm * 10);
+        if (index < 0 || index >= TENTHS || index / 10f != mm) {
+            return CN.convertToPixels(mm);
+        }
+        validate();
+        int pixels = tenths[index];
+        if (pixels < 0) {
+            pixels = CN.convertToPixels(mm);
+            tenths[index] = pixels;
+        }
+        return pixels;
+    }
+
+    /**
+     * Forgets every converted value
+     */
+    static void clear() {
+        for (int iter = 0; iter < WHOLE; iter++) {
+            whole[iter] = -1;
+        }
+        for (int iter = 0; iter < TENTHS; iter++) {
+            tenths[iter] = -1;
+        }
+    }
+
+    private static void validate() {
+        int d = Display.getInstance().getDeviceDensity();
+        int w = CN.getDisplayWidth();
+        int h = CN.getDisplayHeight();
+        if (d != density || w != width || h != height) {
+            clear();
+            density = d;
+            width = w;
+            height = h;
+        }
+    }
+}